@@ -0,0 +1,166 @@
+package logic.components;
+
+import java.lang.management.ManagementFactory;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Application;
+import javafx.application.Platform;
+import javafx.scene.Group;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+import javafx.stage.Stage;
+import logic.game.GameLogic;
+
+/**
+ * Compares the HUD drawn from glyph atlases with the Text nodes it replaced.
+ * Both HUDs show a countdown that changes every frame and a score that changes every few frames,
+ * the way the timer and score do during a round. The Text HUD is rebuilt as it was: one Text node
+ * per group of digits, updated with setText. The atlas HUD is the game's own TimerPane and ScorePane.
+ * For each, the time from the start of the pulse to the end of its layout pass (update, CSS and layout)
+ * and the bytes allocated on the FX thread are measured per frame; the time the GPU spends is not.
+ * Needs a display: java logic.components.GlyphAtlasBenchmark [frames]
+ */
+public class GlyphAtlasBenchmark extends Application {
+
+    private static final int WARMUP_FRAMES = 120;
+    private static int frames = 600;
+
+    private final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    public static void main(String[] args) {
+        if (args.length > 0) {
+            frames = Integer.parseInt(args[0]);
+        }
+        launch(args);
+    }
+
+    /**
+     * A HUD that is updated once per frame.
+     */
+    private interface Hud {
+        Parent getRoot();
+
+        void show(int centis, int score);
+    }
+
+    /**
+     * The HUD as it was before the glyph atlases: Text nodes updated with setText.
+     */
+    private static final class TextHud implements Hud {
+        private final Text minutes = timerText(30);
+        private final Text seconds = timerText(85);
+        private final Text centis = timerText(140);
+        private final Text score = new Text(10, 150, "0");
+        private final Group root = new Group();
+
+        TextHud() {
+            Text header = new Text(80, 30, " Timer");
+            header.setFont(new Font("Comic Sans MS", 25));
+            Text label = new Text(15, 100, "SCORE");
+            label.setFont(new Font("Comic Sans MS", 15));
+            score.setFont(new Font("Comic Sans MS", 55));
+            root.getChildren().addAll(header, minutes, timerText(75, ":"), seconds, timerText(130, ":"), centis,
+                    label, score);
+        }
+
+        private static Text timerText(double x) {
+            return timerText(x, "00");
+        }
+
+        private static Text timerText(double x, String text) {
+            Text node = new Text(x, 65, text);
+            node.setFont(new Font("Comic Sans MS", 40));
+            node.setFill(Color.BLACK);
+            return node;
+        }
+
+        @Override
+        public Parent getRoot() {
+            return root;
+        }
+
+        @Override
+        public void show(int totalCentis, int value) {
+            int totalSeconds = totalCentis / 100;
+            minutes.setText(HudText.twoDigits(totalSeconds / 60));
+            seconds.setText(HudText.twoDigits(totalSeconds % 60));
+            centis.setText(HudText.twoDigits(totalCentis % 100));
+            score.setText(String.valueOf(value));
+        }
+    }
+
+    /**
+     * The game's HUD: TimerPane and ScorePane drawing from glyph atlases.
+     */
+    private static final class AtlasHud implements Hud {
+        private final TimerPane timerPane = new TimerPane();
+        private final ScorePane scorePane = new ScorePane();
+        private final HBox root = new HBox(timerPane, scorePane);
+
+        @Override
+        public Parent getRoot() {
+            return root;
+        }
+
+        @Override
+        public void show(int centis, int value) {
+            GameLogic.getScore().setScore(value);
+            timerPane.setTimer(GameLogic.getPlTimer());
+            scorePane.setScoreText(GameLogic.getScore());
+        }
+    }
+
+    @Override
+    public void start(Stage stage) {
+        GameLogic.resetGame(); // The TimerPane starts the round's timer
+        stage.setScene(new Scene(new Pane(), 400, 200));
+        stage.show();
+        System.out.println("hud     frames   pulse to layout us/frame   allocated bytes/frame");
+        run(stage, "text", new TextHud(), () -> run(stage, "atlas", new AtlasHud(), Platform::exit));
+    }
+
+    /**
+     * Shows a HUD and updates it on every pulse, then runs the next benchmark.
+     */
+    private void run(Stage stage, String name, Hud hud, Runnable next) {
+        Scene scene = new Scene(hud.getRoot(), 400, 200);
+        stage.setScene(scene);
+        long fxThread = Thread.currentThread().getId();
+        long[] pulseStart = new long[1];
+        long[] totals = new long[2]; // Nanoseconds and bytes over the measured frames
+        int[] frame = new int[1];
+        long[] allocatedAtStart = new long[1];
+        Runnable measure = () -> {
+            if (pulseStart[0] != 0 && frame[0] > WARMUP_FRAMES) {
+                totals[0] += System.nanoTime() - pulseStart[0];
+            }
+        };
+        scene.addPostLayoutPulseListener(measure);
+        new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                frame[0]++;
+                if (frame[0] == WARMUP_FRAMES + 1) {
+                    allocatedAtStart[0] = threads.getThreadAllocatedBytes(fxThread);
+                }
+                if (frame[0] > WARMUP_FRAMES + frames) {
+                    stop();
+                    scene.removePostLayoutPulseListener(measure);
+                    totals[1] = threads.getThreadAllocatedBytes(fxThread) - allocatedAtStart[0];
+                    System.out.printf("%-6s %7d %26.1f %23.0f%n", name, frames,
+                            totals[0] / 1_000.0 / frames, (double) totals[1] / frames);
+                    next.run();
+                    return;
+                }
+                pulseStart[0] = System.nanoTime();
+                hud.show(9_000 - frame[0] % 9_000, frame[0] / 7 * 50);
+            }
+        }.start();
+    }
+}
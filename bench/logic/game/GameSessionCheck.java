@@ -0,0 +1,108 @@
+package logic.game;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Checks that a GameSession leaves nothing of its round behind.
+ * Runs 50 rounds back to back, the way quick restarts do. Every round starts a thread that
+ * sleeps until it is interrupted, a thread that only polls isEnded, and a task registered with own.
+ * Each session is closed as soon as its threads run, and then its threads must all have been joined,
+ * its task cancelled exactly once, and nothing counted as leaked. A session that has ended must
+ * refuse new threads and cancel new tasks right away. At the end, no thread of any round may still be alive.
+ * Exits with status 1 if a check fails.
+ * Runs without a display: java logic.game.GameSessionCheck [rounds]
+ */
+public final class GameSessionCheck {
+
+    private static final int THREADS_PER_ROUND = 2;
+
+    private GameSessionCheck() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int rounds = args.length > 0 ? Integer.parseInt(args[0]) : 50;
+        boolean ok = true;
+        long start = System.nanoTime();
+        for (int round = 1; round <= rounds && ok; round++) {
+            ok = checkRound(round);
+        }
+        int alive = roundThreadsAlive();
+        if (ok && alive != 0) {
+            System.out.println("FAIL: " + alive + " round threads still alive after every session closed");
+            ok = false;
+        }
+        System.out.printf("%d rounds, %d threads and 1 task each, closed in %.1f ms in total%n", rounds,
+                THREADS_PER_ROUND, (System.nanoTime() - start) / 1_000_000.0);
+        System.out.println(ok ? "OK" : "FAILED");
+        System.exit(ok ? 0 : 1);
+    }
+
+    /**
+     * Runs one round: starts its threads and task, closes the session and checks what is left.
+     *
+     * @param round The number of the round
+     * @return true if the session left nothing behind
+     */
+    private static boolean checkRound(int round) throws InterruptedException {
+        GameSession session = new GameSession(round);
+        CountDownLatch running = new CountDownLatch(THREADS_PER_ROUND);
+        AtomicInteger cancelled = new AtomicInteger();
+        session.own(cancelled::incrementAndGet);
+        session.startThread("sleeper", () -> {
+            running.countDown();
+            try {
+                Thread.sleep(TimeUnit.MINUTES.toMillis(1)); // Only an interrupt ends it in time
+            } catch (InterruptedException e) {
+                // The round has ended
+            }
+        });
+        session.startThread("poller", () -> {
+            running.countDown();
+            while (!session.isEnded()) {
+                Thread.onSpinWait(); // Ignores interrupts, stops on isEnded
+            }
+        });
+        running.await();
+
+        session.close();
+        session.close(); // Closing twice does nothing
+        if (session.getThreadCount() != 0 || session.getLeakedThreads() != 0 || session.getTaskCount() != 0) {
+            System.out.println("FAIL: round " + round + " left " + session);
+            return false;
+        }
+        if (cancelled.get() != 1) {
+            System.out.println("FAIL: round " + round + " cancelled its task " + cancelled.get() + " times");
+            return false;
+        }
+
+        session.own(cancelled::incrementAndGet);
+        if (cancelled.get() != 2) {
+            System.out.println("FAIL: round " + round + " kept a task registered after it ended");
+            return false;
+        }
+        try {
+            session.startThread("late", () -> { });
+            System.out.println("FAIL: round " + round + " started a thread after it ended");
+            return false;
+        } catch (IllegalStateException expected) {
+            return true;
+        }
+    }
+
+    /**
+     * Counts the live threads started by any session, which are named "round-N-name".
+     *
+     * @return the number of round threads still alive
+     */
+    private static int roundThreadsAlive() {
+        int alive = 0;
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (thread.getName().startsWith("round-")) {
+                alive++;
+            }
+        }
+        return alive;
+    }
+}
@@ -0,0 +1,239 @@
+package logic.game;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import logic.model.GameInput;
+import logic.model.GameWorld;
+import logic.model.InputSnapshot;
+import logic.model.ScoreLedger;
+
+/**
+ * Compares the CPU time and frame-time variance of the single fixed-step GameLoop with
+ * the thread-per-concern design it replaced, on the same headless GameWorld.
+ * The old design is rebuilt as it was: one thread per concern (movement and drawing every 30 ms,
+ * trash and serve checks every 100 ms, the countdown every 20 ms, bomb spawns every 2 s),
+ * each sleeping and then posting its work to one UI thread, the stand-in for Platform.runLater.
+ * The new design is one UI thread woken on a 60 Hz pulse that calls GameLoop.runFrame.
+ * Frame time is the time between two renders on the UI thread.
+ * Runs without a display: java logic.game.LoopComparison [seconds]
+ */
+public final class LoopComparison {
+
+    private static final long PULSE_NANOS = 16_666_667L; // JavaFX pulses at 60 Hz
+
+    private LoopComparison() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int seconds = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+        System.out.println("design            cpu ms/s   wakeups/s   frames/s   frame mean ms   frame stddev ms   frame max ms");
+        print("thread-per-concern", runThreads(seconds), seconds);
+        print("fixed-step loop", runLoop(seconds), seconds);
+    }
+
+    /**
+     * Frame times and CPU use of one run.
+     */
+    private static final class Result {
+        final FrameStats frames = new FrameStats();
+        long cpuNanos;
+        long wakeups;
+    }
+
+    /**
+     * Running mean and variance of the time between renders.
+     */
+    private static final class FrameStats {
+        private long last = -1;
+        private long count;
+        private double mean;
+        private double m2;
+        private double max;
+
+        void rendered(long now) {
+            if (last >= 0) {
+                double millis = (now - last) / 1_000_000.0;
+                count++;
+                double delta = millis - mean;
+                mean += delta / count;
+                m2 += delta * (millis - mean);
+                max = Math.max(max, millis);
+            }
+            last = now;
+        }
+
+        double stdDev() {
+            return count > 1 ? Math.sqrt(m2 / (count - 1)) : 0;
+        }
+    }
+
+    /**
+     * The work of one frame, the same in both designs: read the world as a renderer would.
+     */
+    private static int draw(GameWorld world) {
+        int sum = world.getCroissant().getX() * 31 + world.getCroissant().getY();
+        for (int i = 0; i < world.getBombs().size(); i++) {
+            sum += world.getBombs().get(i).getX() ^ world.getBombs().get(i).getY();
+        }
+        return sum;
+    }
+
+    /**
+     * Input of a player who changes direction every second or so.
+     */
+    private static InputSnapshot input(Random rand, int step) {
+        int key = GameInput.UP << ((step / 33 + rand.nextInt(2)) & 3);
+        return new InputSnapshot(key, GameInput.NONE, GameInput.NONE);
+    }
+
+    private static volatile int sink; // Keeps the drawing from being optimized away
+
+    /**
+     * Runs the old design: every concern sleeps on its own thread and posts to the UI thread.
+     */
+    private static Result runThreads(int seconds) throws Exception {
+        Result result = new Result();
+        GameWorld world = new GameWorld(true, new ScoreLedger(), new Random(1));
+        Random rand = new Random(2);
+        Timer timer = new Timer(new SystemClock());
+        timer.setStop(false);
+        List<Thread> threads = new ArrayList<>();
+        ExecutorService ui = Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "ui");
+            threads.add(thread);
+            return thread;
+        });
+        AtomicBoolean running = new AtomicBoolean(true);
+        int[] step = new int[1];
+
+        Runnable move = () -> world.step(input(rand, step[0]++));
+        Runnable render = () -> {
+            sink = draw(world);
+            result.frames.rendered(System.nanoTime());
+        };
+        Runnable check = () -> sink = world.getCroissant().getX();
+        Runnable countdown = () -> sink = timer.getRemainingCentis();
+
+        threads.add(poster("move", 30, move, ui, running, result));
+        threads.add(poster("canvas", 30, render, ui, running, result));
+        threads.add(poster("trash", 100, check, ui, running, result));
+        threads.add(poster("serve", 100, check, ui, running, result));
+        threads.add(poster("bombs", 2000, check, ui, running, result));
+        threads.add(poster("timer", 20, countdown, ui, running, result));
+        ui.submit(() -> { }).get(); // Start the UI thread
+
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        long cpuStart = cpuTime(bean, threads);
+        for (Thread thread : threads) {
+            if (!thread.getName().equals("ui")) {
+                thread.start();
+            }
+        }
+        Thread.sleep(TimeUnit.SECONDS.toMillis(seconds));
+        result.cpuNanos = cpuTime(bean, threads) - cpuStart;
+        running.set(false);
+        for (Thread thread : threads) {
+            if (!thread.getName().equals("ui")) {
+                thread.join();
+            }
+        }
+        ui.shutdown();
+        ui.awaitTermination(1, TimeUnit.SECONDS);
+        return result;
+    }
+
+    /**
+     * Creates a thread that sleeps for a period and then posts a task to the UI thread.
+     */
+    private static Thread poster(String name, long periodMillis, Runnable task, ExecutorService ui,
+            AtomicBoolean running, Result result) {
+        return new Thread(() -> {
+            while (running.get()) {
+                try {
+                    Thread.sleep(periodMillis);
+                } catch (InterruptedException e) {
+                    return;
+                }
+                synchronized (result) {
+                    result.wakeups += 2; // The poster wakes, then the UI thread runs the task
+                }
+                ui.execute(task);
+            }
+        }, name);
+    }
+
+    /**
+     * Runs the new design: one UI thread woken on every pulse runs the game loop.
+     */
+    private static Result runLoop(int seconds) throws Exception {
+        Result result = new Result();
+        GameWorld world = new GameWorld(true, new ScoreLedger(), new Random(1));
+        Random rand = new Random(2);
+        Timer timer = new Timer(new SystemClock());
+        timer.setStop(false);
+        GameClock clock = new SystemClock();
+        int[] step = new int[1];
+        GameLoop loop = new GameLoop(new UpdateGameAble() {
+            @Override
+            public void update() {
+                world.step(input(rand, step[0]++));
+            }
+
+            @Override
+            public void render() {
+                sink = draw(world) + timer.getRemainingCentis();
+                result.frames.rendered(System.nanoTime());
+            }
+        }, clock);
+
+        long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        Thread pulse = new Thread(() -> {
+            long cpuStart = bean.getCurrentThreadCpuTime();
+            long next = System.nanoTime();
+            while (next < end) {
+                next += PULSE_NANOS;
+                long wait = next - System.nanoTime();
+                if (wait > 0) {
+                    try {
+                        TimeUnit.NANOSECONDS.sleep(wait);
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                result.wakeups++;
+                loop.runFrame(clock.nanoTime());
+            }
+            result.cpuNanos = bean.getCurrentThreadCpuTime() - cpuStart;
+        }, "ui");
+        pulse.start();
+        pulse.join();
+        return result;
+    }
+
+    private static long cpuTime(ThreadMXBean bean, List<Thread> threads) {
+        long total = 0;
+        for (Thread thread : threads) {
+            long cpu = bean.getThreadCpuTime(thread.getId());
+            if (cpu > 0) {
+                total += cpu;
+            }
+        }
+        return total;
+    }
+
+    private static void print(String design, Result result, int seconds) {
+        FrameStats frames = result.frames;
+        System.out.printf("%-18s %9.2f %11.1f %10.1f %15.2f %17.2f %14.2f%n", design,
+                result.cpuNanos / 1_000_000.0 / seconds, (double) result.wakeups / seconds,
+                (double) frames.count / seconds, frames.mean, frames.stdDev(), frames.max);
+    }
+}
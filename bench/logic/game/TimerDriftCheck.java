@@ -0,0 +1,123 @@
+package logic.game;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Checks that the countdown Timer does not drift.
+ * First on a VirtualClock advanced in uneven steps with pauses, where the remaining time
+ * must always be exact. Then on the SystemClock while busy threads keep every core loaded:
+ * the timer is read every 20 ms, the way the game reads it once per frame, and the time it
+ * reports empty is compared with the real deadline. The old countdown, a centisecond counter
+ * decremented by 2 after every Thread.sleep(20), runs under the same load for comparison.
+ * Exits with status 1 if the Timer is off by more than the allowed drift.
+ * Runs without a display: java logic.game.TimerDriftCheck [seconds]
+ */
+public final class TimerDriftCheck {
+
+    private static final long POLL_MILLIS = 20;
+    private static final long MAX_DRIFT_MILLIS = 100; // A few late wakeups, never an accumulated error
+
+    private TimerDriftCheck() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int seconds = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+        boolean ok = checkVirtualClock();
+
+        int busy = Math.max(4, 2 * Runtime.getRuntime().availableProcessors());
+        AtomicBoolean loaded = new AtomicBoolean(true);
+        for (int i = 0; i < busy; i++) {
+            Thread thread = new Thread(() -> {
+                long spin = 0;
+                while (loaded.get()) {
+                    spin++;
+                }
+                sink = spin;
+            }, "busy-" + i);
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        long timerDrift = timerDriftMillis(seconds);
+        long oldDrift = oldCountdownDriftMillis(seconds);
+        loaded.set(false);
+
+        System.out.printf("%d busy threads, %d s countdown read every %d ms%n", busy, seconds, POLL_MILLIS);
+        System.out.printf("Timer (nanoTime deadline):  ends %+d ms from the deadline%n", timerDrift);
+        System.out.printf("Old sleep(20) countdown:    ends %+d ms from the deadline%n", oldDrift);
+        if (Math.abs(timerDrift) > MAX_DRIFT_MILLIS) {
+            System.out.println("FAIL: Timer drifted more than " + MAX_DRIFT_MILLIS + " ms");
+            ok = false;
+        }
+        System.out.println(ok ? "OK" : "FAILED");
+        System.exit(ok ? 0 : 1);
+    }
+
+    private static volatile long sink; // Keeps the busy loops from being optimized away
+
+    /**
+     * Advances a VirtualClock in uneven steps, pausing now and then, and checks that the
+     * remaining time always equals the length minus the time the timer ran.
+     *
+     * @return true if the timer was exact on every read
+     */
+    private static boolean checkVirtualClock() {
+        VirtualClock clock = new VirtualClock();
+        long durationMillis = 90_000;
+        Timer timer = new Timer(clock, durationMillis);
+        Random rand = new Random(7);
+        long ranNanos = 0;
+        timer.resume();
+        while (!timer.isTimerEmpty()) {
+            long step = TimeUnit.MICROSECONDS.toNanos(1 + rand.nextInt(50_000));
+            clock.advance(step);
+            if (!timer.isStop()) {
+                ranNanos += step;
+            }
+            long expected = Math.max(0, TimeUnit.MILLISECONDS.toNanos(durationMillis) - ranNanos);
+            if (timer.getRemainingNanos() != expected) {
+                System.out.println("FAIL: VirtualClock remaining " + timer.getRemainingNanos() + " ns, expected " + expected);
+                return false;
+            }
+            if (rand.nextInt(20) == 0) {
+                timer.setStop(!timer.isStop());
+            }
+        }
+        System.out.println("VirtualClock: exact on every read through a 90 s round with pauses");
+        return true;
+    }
+
+    /**
+     * Runs the Timer on the SystemClock, reading it every poll period.
+     *
+     * @param seconds The length of the countdown
+     * @return when it was first read as empty, in milliseconds after its deadline
+     */
+    private static long timerDriftMillis(int seconds) throws InterruptedException {
+        Timer timer = new Timer(new SystemClock(), TimeUnit.SECONDS.toMillis(seconds));
+        long start = System.nanoTime();
+        timer.resume();
+        while (!timer.isTimerEmpty()) {
+            Thread.sleep(POLL_MILLIS);
+        }
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) - TimeUnit.SECONDS.toMillis(seconds);
+    }
+
+    /**
+     * Runs the countdown the game used before the Timer: sleep 20 ms, then count 2 hundredths.
+     *
+     * @param seconds The length of the countdown
+     * @return when it reached zero, in milliseconds after its deadline
+     */
+    private static long oldCountdownDriftMillis(int seconds) throws InterruptedException {
+        int centis = seconds * 100;
+        long start = System.nanoTime();
+        while (centis > 0) {
+            Thread.sleep(20);
+            centis -= 2;
+        }
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) - TimeUnit.SECONDS.toMillis(seconds);
+    }
+}
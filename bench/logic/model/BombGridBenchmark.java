@@ -0,0 +1,104 @@
+package logic.model;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+/**
+ * Compares the bomb collision check of the BombGrid with a scan of every bomb,
+ * for 10 to 10,000 bombs on the walking area. Both find the same hits; the time of one
+ * query and of one grid update (a bomb expiring and a new one spawning) is printed.
+ * Runs without JavaFX: java logic.model.BombGridBenchmark
+ */
+public final class BombGridBenchmark {
+
+    private static final int[] BOMB_COUNTS = { 10, 100, 1_000, 10_000 };
+    private static final int QUERIES = 200_000;
+    private static final int UPDATES = 200_000;
+    private static final int ROUNDS = 5; // The first rounds warm up the JIT, the last one is printed
+
+    private BombGridBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        System.out.println("bombs   scan ns/query   grid ns/query   grid ns/update   hits");
+        for (int bombCount : BOMB_COUNTS) {
+            Random rand = new Random(42);
+            ArrayList<BombModel> bombs = new ArrayList<>();
+            BombGrid grid = new BombGrid(440, BombModel.WIDTH, bombCount);
+            for (int i = 0; i < bombCount; i++) {
+                BombModel bomb = new BombModel(rand);
+                bombs.add(bomb);
+                grid.add(bomb);
+            }
+            CroissantModel[] croissants = new CroissantModel[1024];
+            for (int i = 0; i < croissants.length; i++) {
+                croissants[i] = CroissantModel.createRandom(rand);
+            }
+
+            double scanNanos = 0;
+            double gridNanos = 0;
+            double updateNanos = 0;
+            long hits = 0;
+            for (int round = 0; round < ROUNDS; round++) {
+                long start = System.nanoTime();
+                long scanHits = scan(bombs, croissants);
+                scanNanos = (double) (System.nanoTime() - start) / QUERIES;
+
+                start = System.nanoTime();
+                long gridHits = query(grid, croissants);
+                gridNanos = (double) (System.nanoTime() - start) / QUERIES;
+
+                if (scanHits != gridHits) {
+                    throw new IllegalStateException("Grid found " + gridHits + " hits, scan found " + scanHits);
+                }
+                hits = gridHits;
+
+                start = System.nanoTime();
+                update(grid, bombs, rand);
+                updateNanos = (double) (System.nanoTime() - start) / UPDATES;
+            }
+            System.out.printf("%5d   %13.1f   %13.1f   %14.1f   %d%n", bombCount, scanNanos, gridNanos, updateNanos, hits);
+        }
+    }
+
+    /**
+     * Checks every bomb for every query, the way the world did before the grid.
+     */
+    private static long scan(ArrayList<BombModel> bombs, CroissantModel[] croissants) {
+        long hits = 0;
+        for (int q = 0; q < QUERIES; q++) {
+            CroissantModel croissant = croissants[q & (croissants.length - 1)];
+            for (int i = bombs.size() - 1; i >= 0; i--) {
+                if (bombs.get(i).checkCollision(croissant)) {
+                    hits++;
+                }
+            }
+        }
+        return hits;
+    }
+
+    /**
+     * Asks the grid for the bombs near each croissant.
+     */
+    private static long query(BombGrid grid, CroissantModel[] croissants) {
+        long hits = 0;
+        for (int q = 0; q < QUERIES; q++) {
+            hits += grid.findCollisions(croissants[q & (croissants.length - 1)]);
+        }
+        return hits;
+    }
+
+    /**
+     * Expires a random bomb and spawns a new one in its place, the grid work of one spawn.
+     */
+    private static void update(BombGrid grid, ArrayList<BombModel> bombs, Random rand) {
+        for (int u = 0; u < UPDATES; u++) {
+            int i = rand.nextInt(bombs.size());
+            BombModel expired = bombs.get(i);
+            grid.remove(expired);
+            BombModel spawned = new BombModel(rand);
+            bombs.set(i, spawned);
+            grid.add(spawned);
+        }
+    }
+}
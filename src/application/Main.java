@@ -7,7 +7,13 @@ import javafx.scene.image.Image;
 import javafx.scene.media.Media;
 import javafx.scene.media.MediaPlayer;
 import javafx.stage.Stage;
+import logic.components.AssetPreloader;
+import logic.components.AudioEngine;
 import logic.components.ControlPane;
+import logic.components.GameCanvas;
+import logic.components.GameSprites;
+import logic.components.LoadingPane;
+import logic.components.SpriteCache;
 import logic.game.SceneController;
 
 /**
@@ -21,6 +27,7 @@ public class Main extends Application {
     private static final String WINDOW_TITLE = "CROISSANT BOOM!!! 💣💣💣";
     private static final boolean RESIZABLE = false;
     private static final int MEDIA_LOOP = MediaPlayer.INDEFINITE;
+    private static final int ICON_SIZE = 64;
 
     // MediaPlayer to keep playing background music across instances
     private static MediaPlayer mediaPlayer;
@@ -34,11 +41,17 @@ public class Main extends Application {
     @Override
     public void start(Stage primaryStage) {
     	
-    	// Load tutorial video before start
-    	SceneController.createTutorialScene();
-    	// Set up Stage and Scene through the SceneController
+    	// Show a splash while the assets load in the background, then open the menu
         SceneController.setStage(primaryStage);
-        SceneController.setupScene();
+        AssetPreloader preloader = new AssetPreloader();
+        SceneController.switchScene(new Scene(new LoadingPane(preloader), 1000, 720));
+        preloader.start(() -> {
+            if (SceneController.isReportEnabled()) {
+                System.out.println(preloader.report());
+            }
+            AudioEngine.start(); // Sound effects play on their own thread from here on
+            SceneController.setupScene();
+        });
 
         // Initialize and play background music
         Media sound = new Media(ClassLoader.getSystemResource(SOUND_FILE).toString());
@@ -47,7 +60,7 @@ public class Main extends Application {
         mediaPlayer.play();
 
         // Set window icon and title
-        Image icon = new Image(ClassLoader.getSystemResource(ICON_FILE).toString());
+        Image icon = SpriteCache.image(ICON_FILE, ICON_SIZE, ICON_SIZE);
         primaryStage.getIcons().add(icon);
         primaryStage.setTitle(WINDOW_TITLE);
 
@@ -55,6 +68,15 @@ public class Main extends Application {
         primaryStage.setResizable(RESIZABLE);
         primaryStage.show();
 
+        // Scale sprites to the output scale of the screen the window is on; the atlas is rebuilt off the FX thread
+        Runnable onRescaled = () -> {
+            GameCanvas.rescale();
+            primaryStage.getIcons().setAll(SpriteCache.image(ICON_FILE, ICON_SIZE, ICON_SIZE));
+        };
+        GameSprites.rescale(primaryStage.getOutputScaleX(), onRescaled);
+        primaryStage.outputScaleXProperty().addListener(
+                (observable, oldScale, newScale) -> GameSprites.rescale(newScale.doubleValue(), onRescaled));
+
         // Handle the close request to stop the music and exit the application
         primaryStage.setOnCloseRequest(event -> closeGame());
     }
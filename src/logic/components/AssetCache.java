@@ -0,0 +1,291 @@
+package logic.components;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javafx.scene.image.Image;
+import javafx.scene.media.AudioClip;
+
+/**
+ * Central cache for the game's images and audio clips.
+ * Each asset is loaded from the classpath once and the same instance is shared by every view.
+ * Entries are kept in least-recently-used order and evicted once their estimated size goes over
+ * the byte budget. Views that still hold an evicted asset keep using it; the next request
+ * loads it again. Hits, misses and evictions are counted.
+ */
+public final class AssetCache {
+
+    public static final long DEFAULT_BUDGET_BYTES = 256L * 1024 * 1024;
+
+    // Every asset used during a round, loaded before the round starts;
+    // walk ground sprites are in GameSprites and scaled images in SpriteCache
+    public static final String[] GAMEPLAY_ASSETS = {
+            "images/background.gif",
+            "sounds/spawnSound.mp3", "sounds/tomatoSquish.mp3", "sounds/bellDing.mp3"
+    };
+
+    private static final String SOUND_PREFIX = "sounds/";
+
+    private static final Map<String, Entry> entries = new LinkedHashMap<>(32, 0.75f, true); // Access order
+    private static long budgetBytes = DEFAULT_BUDGET_BYTES;
+    private static long usedBytes;
+    private static long hits;
+    private static long misses;
+    private static long evictions;
+
+    /**
+     * A cached asset together with its estimated size.
+     */
+    private static final class Entry {
+        final Object asset;
+        final long bytes;
+
+        Entry(Object asset, long bytes) {
+            this.asset = asset;
+            this.bytes = bytes;
+        }
+    }
+
+    private AssetCache() {
+    }
+
+    /**
+     * Gets an image, loading it on the first request.
+     * The image is decoded outside the cache lock, so several threads can load at once.
+     *
+     * @param path The classpath of the image, e.g. "images/oven.png"
+     * @return the shared image
+     */
+    public static Image image(String path) {
+        synchronized (AssetCache.class) {
+            Entry entry = lookup(path);
+            if (entry != null) {
+                return (Image) entry.asset;
+            }
+        }
+        return (Image) loadImage(path).asset;
+    }
+
+    /**
+     * Gets an audio clip, loading it on the first request.
+     * The clip is loaded outside the cache lock, so several threads can load at once.
+     *
+     * @param path The classpath of the clip, e.g. "sounds/bellDing.mp3"
+     * @return the shared audio clip
+     */
+    public static AudioClip audio(String path) {
+        synchronized (AssetCache.class) {
+            Entry entry = lookup(path);
+            if (entry != null) {
+                return (AudioClip) entry.asset;
+            }
+        }
+        return (AudioClip) loadAudio(path).asset;
+    }
+
+    /**
+     * Loads assets that are not cached yet, so that later requests are hits.
+     * Preloading is not counted as hits or misses.
+     * Paths under "sounds/" are loaded as audio clips and all others as images.
+     *
+     * @param paths The classpaths of the assets
+     */
+    public static void preload(String... paths) {
+        for (String path : paths) {
+            if (isCached(path)) {
+                continue;
+            }
+            if (path.startsWith(SOUND_PREFIX)) {
+                loadAudio(path);
+            } else {
+                loadImage(path);
+            }
+        }
+    }
+
+    /**
+     * Checks whether an asset is cached, without counting a hit or miss.
+     *
+     * @param path The classpath of the asset
+     * @return true if it is cached
+     */
+    public static synchronized boolean isCached(String path) {
+        return entries.containsKey(path);
+    }
+
+    /**
+     * Decodes an image and caches it.
+     *
+     * @param path The classpath of the image
+     * @return the cached entry, which is another thread's if it finished first
+     */
+    private static Entry loadImage(String path) {
+        Image image = new Image(resource(path).toString());
+        // Decoded size of one frame, 4 bytes per pixel
+        return store(path, image, (long) image.getWidth() * (long) image.getHeight() * 4);
+    }
+
+    /**
+     * Loads an audio clip and caches it.
+     *
+     * @param path The classpath of the clip
+     * @return the cached entry, which is another thread's if it finished first
+     */
+    private static Entry loadAudio(String path) {
+        URL url = resource(path);
+        return store(path, new AudioClip(url.toString()), fileSize(url));
+    }
+
+    /**
+     * Looks up a cached entry and counts the hit or miss.
+     *
+     * @param path The classpath of the asset
+     * @return the entry, or null if it is not cached
+     */
+    private static Entry lookup(String path) {
+        Entry entry = entries.get(path);
+        if (entry != null) {
+            hits++;
+        } else {
+            misses++;
+        }
+        return entry;
+    }
+
+    /**
+     * Caches a loaded asset and evicts the least recently used ones over the budget.
+     *
+     * @param path  The classpath of the asset
+     * @param asset The loaded asset
+     * @param bytes Its estimated size
+     * @return the cached entry; if another thread cached the asset first, its entry is kept
+     */
+    private static synchronized Entry store(String path, Object asset, long bytes) {
+        Entry existing = entries.get(path);
+        if (existing != null) {
+            return existing;
+        }
+        Entry entry = new Entry(asset, bytes);
+        entries.put(path, entry);
+        usedBytes += bytes;
+        evictOverBudget(path);
+        return entry;
+    }
+
+    /**
+     * Evicts least recently used entries until the cache fits its budget.
+     *
+     * @param keep The classpath of an asset that is never evicted, the one just loaded
+     */
+    private static void evictOverBudget(String keep) {
+        Iterator<Map.Entry<String, Entry>> it = entries.entrySet().iterator();
+        while (usedBytes > budgetBytes && it.hasNext()) {
+            Map.Entry<String, Entry> eldest = it.next();
+            if (eldest.getKey().equals(keep)) {
+                continue;
+            }
+            usedBytes -= eldest.getValue().bytes;
+            it.remove();
+            evictions++;
+        }
+    }
+
+    /**
+     * Finds an asset on the classpath.
+     *
+     * @param path The classpath of the asset
+     * @return its URL
+     */
+    private static URL resource(String path) {
+        URL url = ClassLoader.getSystemResource(path);
+        if (url == null) {
+            throw new IllegalArgumentException("Missing asset: " + path);
+        }
+        return url;
+    }
+
+    /**
+     * Estimates the size of an audio clip from the size of its file.
+     * Reading the length connects to the file, so the stream the connection opened is closed.
+     *
+     * @param url The URL of the file
+     * @return the file size, 0 if it cannot be read
+     */
+    private static long fileSize(URL url) {
+        try {
+            URLConnection connection = url.openConnection();
+            try {
+                return Math.max(0, connection.getContentLengthLong());
+            } finally {
+                connection.getInputStream().close(); // Reading the length opened it
+            }
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Sets the byte budget and evicts entries that no longer fit.
+     *
+     * @param bytes The new budget
+     */
+    public static synchronized void setBudgetBytes(long bytes) {
+        budgetBytes = bytes;
+        evictOverBudget(null);
+    }
+
+    /**
+     * Drops every cached asset and resets the counters.
+     */
+    public static synchronized void clear() {
+        entries.clear();
+        usedBytes = 0;
+        hits = 0;
+        misses = 0;
+        evictions = 0;
+    }
+
+    // Getter for the byte budget
+    public static synchronized long getBudgetBytes() {
+        return budgetBytes;
+    }
+
+    // Getter for the estimated size of the cached assets
+    public static synchronized long getUsedBytes() {
+        return usedBytes;
+    }
+
+    // Getter for the number of cached assets
+    public static synchronized int getSize() {
+        return entries.size();
+    }
+
+    // Getter for the number of requests served from the cache
+    public static synchronized long getHits() {
+        return hits;
+    }
+
+    // Getter for the number of requests that had to load the asset
+    public static synchronized long getMisses() {
+        return misses;
+    }
+
+    // Getter for the number of evicted assets
+    public static synchronized long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * Returns a summary of the cache.
+     *
+     * @return the number of assets, the bytes used and the counters
+     */
+    public static synchronized String report() {
+        return "AssetCache[assets=" + entries.size() + ", used=" + usedBytes / 1024 + "KB/" + budgetBytes / 1024
+                + "KB, hits=" + hits + ", misses=" + misses + ", evictions=" + evictions + "]";
+    }
+}
@@ -0,0 +1,206 @@
+package logic.components;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javafx.application.Platform;
+import javafx.beans.property.ReadOnlyDoubleProperty;
+import javafx.beans.property.ReadOnlyDoubleWrapper;
+
+/**
+ * Loads every asset listed in the asset manifest on a bounded pool of background threads.
+ * Each manifest line names how an asset is used (see res/assets.manifest), and the asset is
+ * loaded into the cache that serves it during the game, so no round decodes anything.
+ * The walk ground sprite atlas is built as one task. Progress is published on the
+ * FX thread for a splash screen, and the time spent on every asset is recorded.
+ */
+public class AssetPreloader {
+
+    public static final String MANIFEST = "assets.manifest";
+
+    private static final int MAX_THREADS = 4;
+
+    private final List<String[]> tasks = new ArrayList<>(); // Kind, path and optional display size of each task
+    private final long[] loadNanos; // Time spent on each task
+    private final String[] failures; // Error of each task that failed, null otherwise
+    private final AtomicInteger finished = new AtomicInteger();
+    private final ReadOnlyDoubleWrapper progress = new ReadOnlyDoubleWrapper(this, "progress", 0);
+    private final int threads;
+    private long startNanos;
+    private long totalNanos;
+
+    /**
+     * Creates a preloader for the assets in the manifest.
+     */
+    public AssetPreloader() {
+        this(Math.max(1, Math.min(MAX_THREADS, Runtime.getRuntime().availableProcessors() - 1)));
+    }
+
+    /**
+     * Creates a preloader for the assets in the manifest.
+     *
+     * @param threads The number of loader threads
+     */
+    public AssetPreloader(int threads) {
+        this.threads = threads;
+        for (String[] entry : readManifest()) {
+            if (entry[0].equals("atlas")) {
+                tasks.add(0, entry); // The slowest task goes first
+            } else if (!entry[0].equals("stream")) {
+                tasks.add(entry);
+            }
+        }
+        loadNanos = new long[tasks.size()];
+        failures = new String[tasks.size()];
+    }
+
+    /**
+     * Reads the manifest, skipping blank lines and comments.
+     *
+     * @return the fields of each asset line
+     */
+    private static List<String[]> readManifest() {
+        URL url = ClassLoader.getSystemResource(MANIFEST);
+        if (url == null) {
+            throw new IllegalStateException("Missing asset manifest: " + MANIFEST);
+        }
+        List<String[]> entries = new ArrayList<>();
+        try (InputStream in = url.openStream();
+                BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (!line.isEmpty() && !line.startsWith("#")) {
+                    entries.add(line.split("\\s+"));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return entries;
+    }
+
+    /**
+     * Starts loading on the background threads.
+     *
+     * @param onDone Run on the FX thread once every asset has been loaded or has failed
+     */
+    public void start(Runnable onDone) {
+        startNanos = System.nanoTime();
+        if (tasks.isEmpty()) {
+            Platform.runLater(onDone);
+            return;
+        }
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "asset-loader-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < tasks.size(); i++) {
+            int task = i;
+            pool.execute(() -> {
+                long start = System.nanoTime();
+                try {
+                    load(tasks.get(task));
+                } catch (Throwable e) {
+                    failures[task] = e.toString(); // The asset is loaded on demand instead
+                } finally {
+                    finished(task, start, pool, onDone); // Even an Error must not leave the splash waiting
+                }
+            });
+        }
+    }
+
+    /**
+     * Records that a task is done, publishes the progress and runs onDone after the last task.
+     *
+     * @param task   The index of the task
+     * @param start  When the task started, in nanoseconds
+     * @param pool   The loader threads, shut down after the last task
+     * @param onDone Run on the FX thread after the last task
+     */
+    private void finished(int task, long start, ExecutorService pool, Runnable onDone) {
+        loadNanos[task] = System.nanoTime() - start;
+        int done = finished.incrementAndGet();
+        Platform.runLater(() -> progress.set(Math.max(progress.get(), (double) done / tasks.size())));
+        if (done == tasks.size()) {
+            totalNanos = System.nanoTime() - startNanos;
+            pool.shutdown();
+            Platform.runLater(onDone);
+        }
+    }
+
+    /**
+     * Loads one asset into the cache that serves it.
+     *
+     * @param task The kind, path and optional display size of the asset
+     */
+    private static void load(String[] task) {
+        switch (task[0]) {
+            case "atlas":
+                GameSprites.getAtlas();
+                break;
+            case "image":
+                AssetCache.image(task[1]);
+                break;
+            case "scaled":
+                SpriteCache.image(task[1], Double.parseDouble(task[2]), Double.parseDouble(task[3]));
+                break;
+            case "clip":
+                AssetCache.audio(task[1]);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown asset kind: " + task[0]);
+        }
+    }
+
+    /**
+     * Returns the loading progress, from 0 to 1, updated on the FX thread.
+     *
+     * @return the progress property
+     */
+    public ReadOnlyDoubleProperty progressProperty() {
+        return progress.getReadOnlyProperty();
+    }
+
+    // Getter for the number of assets to load
+    public int getTotal() {
+        return tasks.size();
+    }
+
+    // Getter for the number of assets loaded so far
+    public int getFinished() {
+        return finished.get();
+    }
+
+    /**
+     * Returns the time spent on every asset, the failures and the total wall time.
+     * Call it once loading has finished.
+     *
+     * @return the report
+     */
+    public String report() {
+        StringBuilder report = new StringBuilder("AssetPreloader[threads=" + threads + ", assets=" + tasks.size()
+                + ", total=" + totalNanos / 1_000_000 + "ms]");
+        for (int i = 0; i < tasks.size(); i++) {
+            String[] task = tasks.get(i);
+            report.append("\n  ").append(task[0]).append(' ').append(task[1]).append(": ")
+                    .append(loadNanos[i] / 1_000_000).append("ms");
+            if (failures[i] != null) {
+                report.append(" FAILED ").append(failures[i]);
+            }
+        }
+        return report.toString();
+    }
+}
@@ -0,0 +1,145 @@
+package logic.components;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import javafx.scene.media.AudioClip;
+import logic.game.CommandQueue;
+import logic.game.LatencyHistogram;
+
+/**
+ * Plays the game's sound effects on a dedicated audio thread.
+ * Callers, such as the game tick, only post a play command to a lock-free queue and return;
+ * the audio thread picks it up at once and starts the clip. Each clip is decoded once.
+ * A fixed pool of voices caps how many effects play at once, and every effect also has its
+ * own cap; a command that finds no free voice is skipped rather than delayed. A voice is held
+ * for the length of its clip at most, and freed as soon as the clip has stopped playing.
+ * The time from the command to the return of AudioClip.play() is recorded in a histogram. play() only
+ * hands the clip to the media backend, so this is the command to dispatch latency of the engine,
+ * not the time until the sound is heard, which the backend adds on top.
+ */
+public final class AudioEngine {
+
+    public static final int MAX_VOICES = 8; // Effects that may play at once over all sounds
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(50); // Sleep when idle, woken by play()
+
+    private static final CommandQueue commands = new CommandQueue(64);
+    private static final AudioClip[] clips = new AudioClip[SoundEffect.values().length];
+    private static final long[] voiceBusyUntil = new long[MAX_VOICES]; // When each voice is free, audio thread only
+    private static final int[] voiceEffect = new int[MAX_VOICES]; // Effect playing on each voice, audio thread only
+    private static final LatencyHistogram dispatchLatency = new LatencyHistogram(); // Command to play() dispatch, guarded by itself
+    private static final AtomicLong played = new AtomicLong();
+    private static final AtomicLong skipped = new AtomicLong();
+    private static volatile Thread audioThread;
+
+    private AudioEngine() {
+    }
+
+    /**
+     * Starts the audio thread if it is not running yet, loading every clip on it.
+     */
+    public static synchronized void start() {
+        if (audioThread != null) {
+            return;
+        }
+        Thread thread = new Thread(AudioEngine::run, "audio-engine");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MAX_PRIORITY);
+        audioThread = thread;
+        thread.start();
+    }
+
+    /**
+     * Asks the audio thread to play a sound effect. Never blocks and never allocates.
+     *
+     * @param effect The effect to play
+     */
+    public static void play(SoundEffect effect) {
+        Thread thread = audioThread;
+        if (thread == null) {
+            start();
+            thread = audioThread;
+        }
+        commands.offer(effect.ordinal(), System.nanoTime());
+        LockSupport.unpark(thread);
+    }
+
+    /**
+     * The audio thread: loads the clips, then plays commands as they arrive.
+     */
+    private static void run() {
+        for (SoundEffect effect : SoundEffect.values()) {
+            clips[effect.ordinal()] = AssetCache.audio(effect.getPath());
+        }
+        while (!Thread.currentThread().isInterrupted()) {
+            while (commands.poll()) {
+                playNow(SoundEffect.of(commands.getCommand()), commands.getTime());
+            }
+            LockSupport.parkNanos(IDLE_PARK_NANOS);
+        }
+    }
+
+    /**
+     * Plays an effect on a free voice, or skips it when its cap or the voice pool is full.
+     *
+     * @param effect      The effect to play
+     * @param triggerTime When the effect was asked for, in nanoseconds
+     */
+    private static void playNow(SoundEffect effect, long triggerTime) {
+        long now = System.nanoTime();
+        int free = -1;
+        int playing = 0;
+        for (int voice = 0; voice < MAX_VOICES; voice++) {
+            if (voiceBusyUntil[voice] > now && !clips[voiceEffect[voice]].isPlaying()) {
+                voiceBusyUntil[voice] = now; // Every copy of the clip has finished, whatever its length
+            }
+            if (voiceBusyUntil[voice] > now) {
+                if (voiceEffect[voice] == effect.ordinal()) {
+                    playing++;
+                }
+            } else if (free < 0) {
+                free = voice;
+            }
+        }
+        if (free < 0 || playing >= effect.getMaxVoices()) {
+            skipped.incrementAndGet();
+            return;
+        }
+        voiceBusyUntil[free] = now + TimeUnit.MILLISECONDS.toNanos(effect.getLengthMillis());
+        voiceEffect[free] = effect.ordinal();
+        clips[effect.ordinal()].play();
+        played.incrementAndGet();
+        synchronized (dispatchLatency) {
+            dispatchLatency.record(System.nanoTime() - triggerTime); // play() has queued the clip, not started it
+        }
+    }
+
+    // Getter for the number of effects played
+    public static long getPlayed() {
+        return played.get();
+    }
+
+    // Getter for the number of effects skipped because no voice was free
+    public static long getSkipped() {
+        return skipped.get();
+    }
+
+    // Getter for the number of commands dropped because the queue was full
+    public static long getDropped() {
+        return commands.getDropped();
+    }
+
+    /**
+     * Returns a summary of the engine: the counters and the command to play() dispatch latency.
+     *
+     * @return the report
+     */
+    public static String report() {
+        synchronized (dispatchLatency) {
+            return "AudioEngine[played=" + played.get() + ", skipped=" + skipped.get() + ", dropped="
+                    + commands.getDropped() + ", command to play() dispatch " + dispatchLatency + "]";
+        }
+    }
+}
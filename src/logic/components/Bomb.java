@@ -2,80 +2,83 @@ package logic.components;
 
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.image.Image;
-import javafx.scene.image.ImageView;
-
-import java.util.Random;
+import logic.model.BombModel;
 
 /**
- * Bomb class that represents a bomb object in the game.
- * It manages the bomb's image, position, and collision detection with a Croissant object.
+ * Bomb class that represents the view of a bomb in the game.
+ * The bomb's position and collision detection live in a BombModel; this class draws its frames
+ * from the sprite atlas. All bombs share one animation clock, so a bomb only keeps its phase.
  */
 public class Bomb {
     // Constants for the bomb's dimensions
-    private static final double WIDTH = 40;
-    private static final double HEIGHT = 40;
-    private static final int HEIGHT_OUT_OVEN_AREA = 60;
-    private static final int GRID_SIZE = 440;
+    private static final double WIDTH = BombModel.WIDTH;
+    private static final double HEIGHT = BombModel.HEIGHT;
+
+    // Game state of the bomb
+    private final BombModel model;
 
-    // Position of the bomb on the grid
-    private int x, y;
+    // Offset of this bomb into the shared animation, so it starts on the first frame
+    private final int phase;
 
-    // Image of the bomb
-    private Image bombImage;
-    private ImageView imageView;
+    // Sprite of the frame on screen, -1 until the bomb is first drawn
+    private int shownSprite = -1;
 
     /**
-     * Constructor to initialize the bomb with a random position and image.
+     * Constructor to create the view of a bomb.
+     * @param model     The bomb shown by this view
+     * @param animation The shared bomb animation, its clock set to the spawn time
      */
-    public Bomb() {
-        bombImage = new Image(ClassLoader.getSystemResource("images/tomatoExplosion.gif").toString());
-        imageView = new ImageView(bombImage);
-        imageView.setFitWidth(WIDTH);
-        imageView.setFitHeight(HEIGHT);
-        spawnRandom();
+    public Bomb(BombModel model, SpriteAnimation animation) {
+        this.model = model;
+        this.phase = animation.startPhase();
     }
 
     /**
-     * Spawns the bomb at a random position within the grid.
+     * Renders the current frame of the bomb animation at the bomb's position on the screen.
+     * @param gc        The GraphicsContext used to draw the image
+     * @param sprites   The sprite atlas the walk ground draws from
+     * @param animation The shared bomb animation
      */
-    public void spawnRandom() {
-        Random rand = new Random();
-        this.x = rand.nextInt(GRID_SIZE - (int) WIDTH);
-        this.y = rand.nextInt(HEIGHT_OUT_OVEN_AREA + 1, GRID_SIZE - (int) HEIGHT);
-        updateImageView();
+    public void render(GraphicsContext gc, SpriteAtlas sprites, SpriteAnimation animation) {
+        sprites.draw(gc, animation.spriteFor(phase), getX(), getY(), WIDTH, HEIGHT);
     }
 
     /**
-     * Renders the bomb image at the current position on the screen.
-     * @param gc The GraphicsContext used to draw the image
+     * Moves the bomb to the current frame of the animation.
+     * @param animation The shared bomb animation
+     * @return true if the frame changed, so the bomb has to be drawn again
      */
-    public void render(GraphicsContext gc) {
-        gc.drawImage(bombImage, x, y, WIDTH, HEIGHT);
+    public boolean updateFrame(SpriteAnimation animation) {
+        int sprite = animation.spriteFor(phase);
+        if (sprite == shownSprite) {
+            return false;
+        }
+        shownSprite = sprite;
+        return true;
     }
 
     /**
-     * Checks if the bomb collides with a given Croissant.
-     * @param croissant The Croissant object to check for collision with
-     * @return True if the bomb collides with the Croissant, false otherwise
+     * Returns the bomb shown by this view.
+     * @return The bomb model
      */
-    public boolean checkCollision(Croissant croissant) {
-        return Math.abs(croissant.getX() - x) < WIDTH && Math.abs(croissant.getY() - y) < HEIGHT;
+    public BombModel getModel() {
+        return model;
     }
 
     /**
-     * Updates the position of the bomb's image view.
+     * Returns the bomb's image, the sprite atlas holding its frames.
+     * @return The image representing the bomb
      */
-    private void updateImageView() {
-        imageView.setX(x);
-        imageView.setY(y);
+    public Image getImage() {
+        return GameSprites.getAtlas().getImage();
     }
 
     /**
-     * Returns the bomb's image.
-     * @return The image representing the bomb
+     * Returns the bomb's offset into the shared animation.
+     * @return The phase in milliseconds
      */
-    public Image getImage() {
-        return bombImage;
+    public int getPhase() {
+        return phase;
     }
 
     /**
@@ -83,7 +86,7 @@ public class Bomb {
      * @return The x coordinate of the bomb
      */
     public int getX() {
-        return x;
+        return model.getX();
     }
 
     /**
@@ -91,6 +94,6 @@ public class Bomb {
      * @return The y coordinate of the bomb
      */
     public int getY() {
-        return y;
+        return model.getY();
     }
 }
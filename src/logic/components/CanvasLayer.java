@@ -0,0 +1,117 @@
+package logic.components;
+
+import javafx.scene.canvas.Canvas;
+
+/**
+ * One canvas of a stack of layers. A layer keeps what it shows until parts of it are
+ * invalidated, and is drawn again only where it was; layers above and below are not touched.
+ * The layer counts the pixels it fills so the fill rate of each layer can be compared.
+ */
+public class CanvasLayer extends Canvas {
+
+    private final String name;
+    private final DirtyRegion dirty;
+    private long filledPixels;
+    private long redraws;
+
+    /**
+     * Creates a transparent layer that has to be drawn in full.
+     *
+     * @param name   The name of the layer, for the report
+     * @param width  The width of the layer
+     * @param height The height of the layer
+     */
+    public CanvasLayer(String name, int width, int height) {
+        super(width, height);
+        this.name = name;
+        this.dirty = new DirtyRegion(width, height);
+        setMouseTransparent(true); // Layers only show, input goes to the pane holding them
+        dirty.addAll();
+    }
+
+    /**
+     * Marks a rectangle of the layer to be drawn again.
+     *
+     * @param x The left edge
+     * @param y The top edge
+     * @param w The width
+     * @param h The height
+     */
+    public void invalidate(int x, int y, int w, int h) {
+        dirty.add(x, y, w, h);
+    }
+
+    /**
+     * Marks the whole layer to be drawn again.
+     */
+    public void invalidateAll() {
+        dirty.addAll();
+    }
+
+    /**
+     * Clears the invalid parts of the layer, counting them as filled.
+     * The caller then draws into them and calls validate.
+     */
+    public void clearInvalid() {
+        if (dirty.isFull()) {
+            getGraphicsContext2D().clearRect(0, 0, getWidth(), getHeight());
+        } else {
+            for (int i = 0; i < dirty.getCount(); i++) {
+                getGraphicsContext2D().clearRect(dirty.getX(i), dirty.getY(i), dirty.getWidth(i), dirty.getHeight(i));
+            }
+        }
+        filledPixels += dirty.getArea();
+    }
+
+    /**
+     * Marks the layer as up to date, once its invalid parts are drawn.
+     */
+    public void validate() {
+        if (!dirty.isEmpty()) {
+            redraws++;
+        }
+        dirty.clear();
+    }
+
+    /**
+     * Adds pixels drawn into this layer to its fill count.
+     *
+     * @param pixels The number of pixels drawn
+     */
+    public void addFilled(long pixels) {
+        filledPixels += pixels;
+    }
+
+    /**
+     * Forgets the fill count and the number of redraws.
+     */
+    public void resetStats() {
+        filledPixels = 0;
+        redraws = 0;
+    }
+
+    // Getter for whether part of the layer has to be drawn again
+    public boolean isInvalid() {
+        return !dirty.isEmpty();
+    }
+
+    // Getter for the invalid parts of the layer
+    public DirtyRegion getDirtyRegion() {
+        return dirty;
+    }
+
+    // Getter for the number of pixels filled in this layer
+    public long getFilledPixels() {
+        return filledPixels;
+    }
+
+    // Getter for the number of frames the layer was drawn in
+    public long getRedraws() {
+        return redraws;
+    }
+
+    // Getter for the name of the layer
+    public String getName() {
+        return name;
+    }
+}
@@ -1,6 +1,7 @@
 package logic.components;
 
 import javafx.scene.image.ImageView;
+import logic.model.CroissantModel;
 
 /**
  * ClassicCroissant class extends Croissant to represent a specific type of croissant.
@@ -13,17 +14,15 @@ public class ClassicCroissant extends Croissant {
     private static final String RAW_IMAGE_PATH = "images/rawClassicCroissant.png";
     private static final String BURNED_IMAGE_PATH = "images/burnedCroissant.png";
     private static final String CLASSIC_IMAGE_PATH = "images/classicCroissant.png";
-    private static final int CLASSIC_CROISSANT_BAKE_TIME = 5; // Bake time in seconds
-    private static final int CLASSIC_CROISSANT_BASE_SCORE = 100; // Base score for the croissant
-
 
     /**
      * Constructor for the ClassicCroissant.
-     * Sets the name, bake time, base score, and image for the Classic Croissant.
+     * Creates the view of a Classic Croissant with its raw image.
+     *
+     * @param model The Classic Croissant shown by this view
      */
-    public ClassicCroissant() {
-        // Calls the parent constructor with specific values for this croissant type
-    	super("Classic Croissant", CLASSIC_CROISSANT_BAKE_TIME, CLASSIC_CROISSANT_BASE_SCORE, RAW_IMAGE_PATH);
+    public ClassicCroissant(CroissantModel model) {
+        super(model, RAW_IMAGE_PATH);
     }
 
     /**
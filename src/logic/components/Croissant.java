@@ -1,190 +1,140 @@
 package logic.components;
 
-import java.util.Random;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
-import javafx.scene.media.AudioClip;
+import logic.model.CroissantModel;
+import logic.model.State;
 
 /**
- * The Croissant class represents a base croissant object in the game.
- * It contains properties like name, bake time, base score, and the croissant's image.
- * It also handles movement, random spawning, and rendering of the croissant.
+ * The Croissant class is the view of a croissant in the game.
+ * The game state (type, position and baking state) lives in a CroissantModel;
+ * this class plays the croissant's spawn sound and draws its image from the sprite atlas.
  */
 public abstract class Croissant {
-    
-    private String name;             // Name of the croissant
-    private int bakeTime;            // Bake time in seconds
-    private int baseScore;           // Base score for this croissant
-    private final double WIDTH = 48, HEIGHT = 40;   // Width and height of the croissant
-    private int x, y;                // Position of the croissant on the grid
-    private int speed = 20;          // Movement speed of the croissant
-    private static final int GRID_SIZE = 392;  // Grid size where croissants spawn
-    private boolean inOvenArea = false;         // Whether the croissant is in the oven area
-    private Image croissantImage;   // Image of the croissant
+
+    private final double WIDTH = CroissantModel.WIDTH, HEIGHT = CroissantModel.HEIGHT;   // Width and height of the croissant
+    private final CroissantModel model;  // Game state of the croissant
+    private SpriteAtlas sprites;    // Atlas holding every croissant image
+    private int sprite;             // Id of the current image in the atlas
     private ImageView imageView;    // ImageView for displaying the croissant
-    private State state;            // Current state of the croissant (e.g., RAW, BURNED)
-    private AudioClip spawnSound;   // Sound played when croissant spawns
+    private State renderedState;    // State shown by the current image
 
     /**
-     * Constructor to initialize the croissant with the provided parameters.
+     * Constructor to create the view of a croissant and play the spawn sound.
      * 
-     * @param name       The name of the croissant
-     * @param bakeTime   The bake time in seconds
-     * @param baseScore  The base score for the croissant
-     * @param imagePath  The file path for the croissant's image
+     * @param model      The croissant shown by this view
+     * @param imagePath  The file path for the croissant's raw image
      */
-    public Croissant(String name, int bakeTime, int baseScore, String imagePath) {
-        setName(name);
-        setBaseScore(baseScore);
-        setBakeTime(bakeTime);
-        croissantImage = new Image(ClassLoader.getSystemResource(imagePath).toString());
-        imageView = new ImageView(croissantImage);
+    public Croissant(CroissantModel model, String imagePath) {
+        this.model = model;
+        sprites = GameSprites.getAtlas();
+        sprite = GameSprites.croissant(imagePath);
+        imageView = new ImageView(sprites.getImage());
+        imageView.setViewport(sprites.getViewport(sprite));
         imageView.setFitWidth(WIDTH);
         imageView.setFitHeight(HEIGHT);
-        setState(state.RAW);  // Set initial state to RAW
-        spawnSound = new AudioClip(ClassLoader.getSystemResource("sounds/spawnSound.mp3").toString());
-        spawnRandom();  // Spawn the croissant at a random location
+        renderedState = State.RAW;
+        updateImageView();
+        AudioEngine.play(SoundEffect.SPAWN);
     }
 
     // Getter and setter methods for croissant properties
     public Image getCroissantImage() {
-        return croissantImage;
+        return sprites.getImage();
     }
 
     public void setCroissantImage(String imagePath) {
-        this.croissantImage = new Image(ClassLoader.getSystemResource(imagePath).toString());
+        this.sprite = GameSprites.croissant(imagePath);
+        imageView.setViewport(sprites.getViewport(sprite));
     }
 
-    public String getName() {
-        return name;
+    /**
+     * Draws the croissant from another atlas, e.g. one built for a new render scale.
+     * Sprite ids are the same in every atlas, so the current image stays.
+     *
+     * @param sprites The atlas to draw from
+     */
+    public void setAtlas(SpriteAtlas sprites) {
+        this.sprites = sprites;
+        imageView.setImage(sprites.getImage());
+        imageView.setViewport(sprites.getViewport(sprite));
     }
 
-    public int getBakeTime() {
-        return bakeTime;
+    // Getter for the id of the current image in the sprite atlas
+    public int getSprite() {
+        return sprite;
     }
 
-    public int getBaseScore() {
-        return baseScore;
+    public CroissantModel getModel() {
+        return model;
     }
 
-    /**
-     * Spawns the croissant at a random position on the grid and plays the spawn sound.
-     */
-    public void spawnRandom() {
-        Random rand = new Random();
-        this.x = rand.nextInt(GRID_SIZE);
-        this.y = rand.nextInt(GRID_SIZE);
-        updateImageView();
-        spawnSound.play();
+    public String getName() {
+        return model.getName();
     }
 
-    /**
-     * Moves the croissant by the given deltas in the x and y direction.
-     * Ensures that the croissant stays within the grid bounds.
-     * 
-     * @param dx The change in x position
-     * @param dy The change in y position
-     */
-    public void move(int dx, int dy) {
-        x = Math.max(0, Math.min(GRID_SIZE, x + dx * speed));
-        y = Math.max(0, Math.min(GRID_SIZE + 8, y + dy * speed));  // Allow for slight overflow in y direction
-        updateImageView();
+    public int getBakeTime() {
+        return model.getBakeTime();
     }
 
-    /**
-     * Checks if the croissant is within the oven area.
-     * 
-     * @return True if the croissant is in the oven area, false otherwise
-     */
-    public boolean checkInOvenArea() {
-        return this.y <= 40;  // If the y position is within the oven area
+    public int getBaseScore() {
+        return model.getBaseScore();
     }
 
     /**
-     * Checks if the croissant is perfectly baked based on the actual baking time.
+     * Renders the croissant on the provided GraphicsContext.
      * 
-     * @param actualTime The actual bake time of the croissant
-     * @return True if the croissant is perfectly baked, false otherwise
+     * @param gc The GraphicsContext used for rendering
      */
-    public boolean isPerfectlyBaked(int actualTime) {
-        return Math.abs(actualTime - bakeTime) <= 1;  // Allow a margin of 1 second
+    public void render(GraphicsContext gc) {
+        syncState();
+        updateImageView();
+        sprites.draw(gc, sprite, getX(), getY(), WIDTH, HEIGHT);
     }
 
     /**
-     * Renders the croissant on the provided GraphicsContext.
-     * 
-     * @param gc The GraphicsContext used for rendering
+     * Updates the image when the state of the model has changed since the last render.
      */
-    public void render(GraphicsContext gc) {
-        gc.drawImage(croissantImage, getX(), getY(), WIDTH, HEIGHT);
+    public void syncState() {
+        State state = model.getState();
+        if (state == renderedState) {
+            return;
+        }
+        renderedState = state;
+        switch (state) {
+            case PERFECT:
+                updateImage(imageView, false);
+                break;
+            case BURN:
+                updateImage(imageView, true);
+                break;
+            default:
+                break;
+        }
     }
 
     // Updates the ImageView with the current position of the croissant
     private void updateImageView() {
-        imageView.setX(x);
-        imageView.setY(y);
+        imageView.setX(getX());
+        imageView.setY(getY());
     }
 
-    // Getter and setter methods for position, speed, and other properties
+    // Getter methods for position and state, read from the model
     public int getX() {
-        return x;
-    }
-
-    public void setX(int x) {
-        this.x = x;
+        return model.getX();
     }
 
     public int getY() {
-        return y;
-    }
-
-    public void setY(int y) {
-        this.y = y;
-    }
-
-    public int getSpeed() {
-        return speed;
-    }
-
-    public void setSpeed(int speed) {
-        this.speed = speed;
+        return model.getY();
     }
 
     public boolean isInOvenArea() {
-        return inOvenArea;
-    }
-
-    public void setInOvenArea(boolean inOvenArea) {
-        this.inOvenArea = inOvenArea;
+        return model.isInOvenArea();
     }
 
-    public static int getGridSize() {
-        return GRID_SIZE;
-    }
-
-    public void setName(String name) {
-        this.name = name;
-    }
-
-    public void setBakeTime(int bakeTime) {
-        this.bakeTime = Math.max(bakeTime, 1);  // Ensure that bakeTime is at least 1
-    }
-
-    public void setBaseScore(int baseScore) {
-        this.baseScore = Math.max(baseScore, 0);  // Ensure baseScore is non-negative
-    }
-
-    /**
-     * Sets the position of the croissant and updates the ImageView.
-     * 
-     * @param x The x position
-     * @param y The y position
-     */
-    public void setPosition(int x, int y) {
-        this.x = x;
-        this.y = y;
-        updateImageView();
+    public State getState() {
+        return model.getState();
     }
 
     public ImageView getImageView() {
@@ -195,26 +145,6 @@ public abstract class Croissant {
         this.imageView = imageView;
     }
 
-    public State getState() {
-        return state;
-    }
-
-    /**
-     * Sets the current state of the croissant and updates the image accordingly.
-     * 
-     * @param state The new state of the croissant
-     */
-    public void setState(State state) {
-        this.state = state;
-        switch (state) {
-            case BURN:
-                setCroissantImage("images/burnedCroissant.png");
-                break;
-            default:
-                break;
-        }
-    }
-
     /**
      * Abstract method to update the image of the croissant, 
      * should be implemented by subclasses.
@@ -1,47 +1,28 @@
 package logic.components;
 
-import java.util.Random;
+import logic.model.CroissantModel;
 
 /**
- * CroissantFactory class that creates random Croissant objects.
- * It provides a method to randomly generate a Classic, Salad, or Rainbow Croissant.
+ * CroissantFactory class that creates the view for a croissant.
+ * It picks the Classic, Salad, or Rainbow Croissant view that matches the croissant's type.
  */
 public class CroissantFactory {
 
-    // Constants for random croissant types
-    private static final int CLASSIC_CROISSANT_TYPE = 0;
-    private static final int SALAD_CROISSANT_TYPE = 1;
-    private static final int RAINBOW_CROISSANT_TYPE = 2;
-    
     /**
-     * Creates a random Croissant object (Classic, Salad, or Rainbow).
+     * Creates the Croissant view for the given croissant.
      * 
-     * @return A random Croissant object.
+     * @param model The croissant to create a view for.
+     * @return A new Croissant view corresponding to the croissant's type.
      */
-    public static Croissant createRandomCroissant() {
-        Random rand = new Random();
-        int type = rand.nextInt(3); // Randomly selects between 0, 1, or 2
-        
-        // Return a new Croissant based on the randomly selected type
-        return createCroissantByType(type);
-    }
-
-    /**
-     * Creates a Croissant object based on the given type.
-     * 
-     * @param type The type of Croissant to create (0: Classic, 1: Salad, 2: Rainbow).
-     * @return A new Croissant object corresponding to the type.
-     */
-    private static Croissant createCroissantByType(int type) {
-        switch (type) {
-            case CLASSIC_CROISSANT_TYPE:
-                return new ClassicCroissant();
-            case SALAD_CROISSANT_TYPE:
-                return new SaladCroissant();
-            case RAINBOW_CROISSANT_TYPE:
-                return new RainbowCroissant();
+    public static Croissant createCroissant(CroissantModel model) {
+        switch (model.getType()) {
+            case SALAD:
+                return new SaladCroissant(model);
+            case RAINBOW:
+                return new RainbowCroissant(model);
+            case CLASSIC:
             default:
-                return new ClassicCroissant(); // Default case to return Classic Croissant
+                return new ClassicCroissant(model);
         }
     }
 }
@@ -0,0 +1,150 @@
+package logic.components;
+
+/**
+ * The parts of a canvas that changed since it was last drawn, as a few rectangles.
+ * Rectangles are clipped to the canvas, and overlapping ones are merged so no pixel
+ * is drawn twice. When there are too many, they are merged into their bounding box.
+ * A full region stands for the whole canvas, for example on the first frame.
+ */
+public class DirtyRegion {
+
+    private static final int MAX_RECTS = 8;
+
+    private final int width;
+    private final int height;
+    private final int[] left = new int[MAX_RECTS];
+    private final int[] top = new int[MAX_RECTS];
+    private final int[] right = new int[MAX_RECTS]; // Exclusive
+    private final int[] bottom = new int[MAX_RECTS]; // Exclusive
+    private int count;
+    private boolean full;
+
+    /**
+     * Creates an empty region over a canvas.
+     *
+     * @param width  The width of the canvas
+     * @param height The height of the canvas
+     */
+    public DirtyRegion(int width, int height) {
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * Marks a rectangle as changed.
+     *
+     * @param x The left edge
+     * @param y The top edge
+     * @param w The width
+     * @param h The height
+     */
+    public void add(int x, int y, int w, int h) {
+        int l = Math.max(0, x);
+        int t = Math.max(0, y);
+        int r = Math.min(width, x + w);
+        int b = Math.min(height, y + h);
+        if (full || l >= r || t >= b) {
+            return;
+        }
+        // Absorb every rectangle the new one overlaps, the union may overlap more
+        for (int i = 0; i < count; i++) {
+            if (l < right[i] && left[i] < r && t < bottom[i] && top[i] < b) {
+                l = Math.min(l, left[i]);
+                t = Math.min(t, top[i]);
+                r = Math.max(r, right[i]);
+                b = Math.max(b, bottom[i]);
+                removeAt(i);
+                i = -1; // Check the others again
+            }
+        }
+        if (count == MAX_RECTS) {
+            for (int i = 0; i < count; i++) {
+                l = Math.min(l, left[i]);
+                t = Math.min(t, top[i]);
+                r = Math.max(r, right[i]);
+                b = Math.max(b, bottom[i]);
+            }
+            count = 0;
+        }
+        left[count] = l;
+        top[count] = t;
+        right[count] = r;
+        bottom[count] = b;
+        count++;
+    }
+
+    /**
+     * Marks the whole canvas as changed.
+     */
+    public void addAll() {
+        full = true;
+        count = 0;
+    }
+
+    /**
+     * Forgets every change, called once the changes are drawn.
+     */
+    public void clear() {
+        full = false;
+        count = 0;
+    }
+
+    private void removeAt(int i) {
+        count--;
+        left[i] = left[count];
+        top[i] = top[count];
+        right[i] = right[count];
+        bottom[i] = bottom[count];
+    }
+
+    // Getter for whether nothing changed
+    public boolean isEmpty() {
+        return !full && count == 0;
+    }
+
+    // Getter for whether the whole canvas changed
+    public boolean isFull() {
+        return full;
+    }
+
+    // Getter for the number of rectangles, 0 when the region is full
+    public int getCount() {
+        return count;
+    }
+
+    // Getter for the left edge of a rectangle
+    public int getX(int i) {
+        return left[i];
+    }
+
+    // Getter for the top edge of a rectangle
+    public int getY(int i) {
+        return top[i];
+    }
+
+    // Getter for the width of a rectangle
+    public int getWidth(int i) {
+        return right[i] - left[i];
+    }
+
+    // Getter for the height of a rectangle
+    public int getHeight(int i) {
+        return bottom[i] - top[i];
+    }
+
+    /**
+     * Returns the number of changed pixels.
+     *
+     * @return the area of the region
+     */
+    public int getArea() {
+        if (full) {
+            return width * height;
+        }
+        int area = 0;
+        for (int i = 0; i < count; i++) {
+            area += getWidth(i) * getHeight(i);
+        }
+        return area;
+    }
+}
@@ -9,19 +9,23 @@ import javafx.scene.text.Text;
 import javafx.geometry.Pos;
 import javafx.geometry.Insets;
 import logic.game.GameLogic;
+import logic.game.ResetGameAble;
 import logic.game.SceneController;
 import logic.components.*;
 
 /**
  * EndCanvas class represents the layout shown at the end of the game.
  * It displays the final score and provides options to restart or go home.
+ * It is built once and reset to show the result of every round.
  */
-public class EndCanvas extends VBox {
+public class EndCanvas extends VBox implements ResetGameAble {
 
     // Constants for layout and button positions
     private static final int PADDING = 150;
     private static final int BUTTON_TRANSLATE_X = 130;
 
+    private final Scoreandrestart scoreAndRestart = new Scoreandrestart();
+
     /**
      * Constructor to initialize the EndCanvas layout and content.
      */
@@ -46,7 +50,7 @@ public class EndCanvas extends VBox {
      * @return A Background object with the background image.
      */
     private Background createBackgroundImage() {
-        Image bgImage = new Image(ClassLoader.getSystemResource("images/background.gif").toString());
+        Image bgImage = AssetCache.image("images/background.gif");
         BackgroundImage backgroundImage = new BackgroundImage(
             bgImage,
             BackgroundRepeat.NO_REPEAT,
@@ -64,7 +68,6 @@ public class EndCanvas extends VBox {
      */
     private HBox createRestartBox() {
         HBox restartBox = new HBox();
-        Scoreandrestart scoreAndRestart = new Scoreandrestart();
 
         restartBox.setPadding(new Insets(PADDING)); // Set padding for the restart box
         restartBox.setAlignment(Pos.BASELINE_CENTER); // Align restart box to the bottom center
@@ -73,6 +76,14 @@ public class EndCanvas extends VBox {
         return restartBox; // Return the configured restart box
     }
 
+    /**
+     * Shows the result of the round that just ended.
+     */
+    @Override
+    public void reset() {
+        scoreAndRestart.reset();
+    }
+
     /**
      * Creates the HBox for the home button.
      * 
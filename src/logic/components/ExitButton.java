@@ -70,5 +70,8 @@ public class ExitButton extends VBox {
     private void endTimer() {
     	GameLogic.getPlTimer().setTimerEmpty();
     	GameLogic.getPlTimer().setStop(true);
+    	if (!SceneController.isGameEnded()) {
+    		SceneController.createEndScene(); // The timer no longer ends the round by itself
+    	}
     }
 } 
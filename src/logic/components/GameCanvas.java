@@ -9,19 +9,21 @@ import javafx.scene.paint.Color;
 import javafx.scene.text.Text;
 import logic.game.GameLogic;
 import logic.game.KeyboardController;
+import logic.game.ResetGameAble;
 
 /**
  * The GameCanvas class represents the game screen, including the game grid,
  * score, timer, recipe, and various game components like the oven and trash.
+ * It is built once and reset in place for every following round.
  */
-public class GameCanvas extends StackPane {
+public class GameCanvas extends StackPane implements ResetGameAble {
     private Text scoreText;
     private static WalkGround walkGround;
     private int score = 0;
     private KeyboardController keyboardController;
     private Text gameOverText;
     private static TimerPane timerPane;
-    private ImageView recipeImg;
+    private static ImageView recipeImg;
     private static Pane recipe;
     private static ScorePane scorePane;
     private static OvenArea ovenArea;
@@ -38,6 +40,7 @@ public class GameCanvas extends StackPane {
     private static final int CANVAS_PADDING = 40;
     private static final int RECIPE_WIDTH = 200;
     private static final int RECIPE_HEIGHT = 360;
+    private static final String RECIPE_FILE = "images/recipe.png";
     private static final int IMAGE_WIDTH = 1000;
     private static final int IMAGE_HEIGHT = 720;
 
@@ -47,11 +50,13 @@ public class GameCanvas extends StackPane {
      * game elements, and controllers.
      */
     public GameCanvas() {
+        AssetCache.preload(AssetCache.GAMEPLAY_ASSETS); // Decode every gameplay asset before the round starts
+        GameSprites.getAtlas(); // Pack the walk ground sprites before the round starts
         setGridProperties(); // Set up the grid properties (columns, rows)
         initializeComponents(); // Initialize the components inside the game
         
         // Setting up background image
-        Image bgImage = new Image(ClassLoader.getSystemResource("images/background.gif").toString());
+        Image bgImage = AssetCache.image("images/background.gif");
         ImageView bgImageView = new ImageView(bgImage);
         bgImageView.setFitWidth(IMAGE_WIDTH);
         bgImageView.setFitHeight(IMAGE_HEIGHT);
@@ -90,10 +95,13 @@ public class GameCanvas extends StackPane {
         walkGround = new WalkGround(keyboardController);
         scorePane = new ScorePane();
         recipe = createPane(RECIPE_WIDTH, RECIPE_HEIGHT);
-        recipeImg = new ImageView(new Image(ClassLoader.getSystemResource("images/recipe.png").toString()));
+        recipeImg = new ImageView(SpriteCache.image(RECIPE_FILE, RECIPE_WIDTH, RECIPE_HEIGHT));
         recipeImg.setFitWidth(RECIPE_WIDTH);
         recipeImg.setFitHeight(RECIPE_HEIGHT);
         recipe.getChildren().add(recipeImg);
+        // The recipe and the bin never change, so they are drawn once into cached bitmaps
+        recipe.setCache(true);
+        bin.setCache(true);
         timerPane = new TimerPane();
         exitButton = new ExitButton();
         
@@ -153,6 +161,22 @@ public class GameCanvas extends StackPane {
         }
     }
 
+    /**
+     * Resets every component of the game screen for a new round, keeping the
+     * nodes, images and glyphs of the previous one.
+     * The game state itself is reset by GameLogic.resetGame first.
+     */
+    @Override
+    public void reset() {
+        ovenArea.reset();
+        serveTable.reset();
+        bin.reset();
+        scorePane.reset();
+        timerPane.reset();
+        gameOverText.setText("");
+        walkGround.reset(); // Last, it starts the game loop
+    }
+
     /**
      * Sets the "GAME OVER" text.
      */
@@ -194,6 +218,41 @@ public class GameCanvas extends StackPane {
         this.score = score;
     }
     
+    /**
+     * Hands the sprite atlas of the current render scale to the walk ground, rasterizes
+     * the HUD glyphs again and gets the oven, table, bin and recipe images from SpriteCache again,
+     * after the window moved to a screen with another output scale.
+     * Parts of the play scene that are not built yet will use the new scale when they are.
+     */
+    public static void rescale() {
+        if (walkGround != null) {
+            walkGround.setAtlas(GameSprites.getAtlas());
+        }
+        if (timerPane != null) {
+            timerPane.rescale();
+        }
+        if (scorePane != null) {
+            scorePane.rescale();
+        }
+        if (ovenArea != null) {
+            ovenArea.rescale();
+        }
+        if (serveTable != null) {
+            serveTable.rescale();
+        }
+        if (bin != null) {
+            bin.rescale(); // Its cached bitmap is redrawn with the new image
+        }
+        if (recipeImg != null) {
+            recipeImg.setImage(SpriteCache.image(RECIPE_FILE, RECIPE_WIDTH, RECIPE_HEIGHT));
+        }
+    }
+
+    // Getter for the WalkGround, null until the first play scene is built
+    public static WalkGround getWalkGround() {
+    	return walkGround;
+    }
+    
     // Getter for ScorePane
     public static ScorePane getScorePane() {
     	return scorePane;
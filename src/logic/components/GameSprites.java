@@ -0,0 +1,191 @@
+package logic.components;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import javafx.application.Platform;
+import javafx.scene.image.Image;
+import logic.model.BombModel;
+import logic.model.CroissantModel;
+
+/**
+ * The atlas holding every sprite drawn on the walk ground: the walking area, the raw, baked
+ * and burned croissants and the frames of the bomb animation.
+ * Each sprite is decoded once, straight at the size it is drawn at, and packed when the
+ * atlas is first requested, so the walk ground draws everything from one texture.
+ * The bomb GIF is decoded once into a sheet of frames that every bomb plays from.
+ * Sprites are decoded at the render scale of SpriteCache, so they stay sharp on HiDPI screens.
+ * When the scale changes, the new atlas is built on a background thread and swapped in on the
+ * FX thread; views keep the atlas they were given until they are handed the new one.
+ */
+public final class GameSprites {
+
+    public static final String WALKING_AREA_PATH = "images/walkingArea.png";
+    public static final String BOMB_PATH = "images/tomatoExplosion.gif";
+
+    private static final int ATLAS_WIDTH = 512;
+    private static final String[] CROISSANT_PATHS = {
+            "images/rawClassicCroissant.png", "images/classicCroissant.png",
+            "images/rawSaladCroissant.png", "images/saladCroissant.png",
+            "images/rawRainbowCroissant.png", "images/rainbowCroissant.png",
+            "images/burnedCroissant.png"
+    };
+
+    private static volatile SpriteAtlas atlas; // Read without locking, written under the class lock or on the FX thread
+    private static double atlasScale; // Render scale the atlas was built for
+    private static int walkingArea; // Id of the walking area sprite
+    private static int firstBombFrame; // Id of the first bomb frame, the others follow it
+    private static int[] bombFrameMillis; // Display time of each bomb frame
+
+    private GameSprites() {
+    }
+
+    /**
+     * Gets the atlas, decoding and packing the sprites on the first call.
+     * Later calls return the atlas in use without locking; a new render scale is applied by rescale.
+     * Sprite ids stay the same when the atlas is rebuilt.
+     *
+     * @return the packed atlas
+     */
+    public static SpriteAtlas getAtlas() {
+        SpriteAtlas current = atlas;
+        if (current != null) {
+            return current;
+        }
+        synchronized (GameSprites.class) {
+            if (atlas == null) {
+                double scale = SpriteCache.getRenderScale();
+                atlas = build(scale);
+                atlasScale = scale;
+            }
+            return atlas;
+        }
+    }
+
+    /**
+     * Changes the render scale, e.g. when the window moves to a screen with another output scale.
+     * The atlas for the new scale is decoded on a background thread, so the round goes on with the
+     * old atlas meanwhile, along with the SpriteCache images for the new scale; the atlas is then
+     * swapped in on the FX thread and onInstalled is run there to hand it and the images to the views.
+     * Must be called on the FX thread.
+     *
+     * @param scale       The number of device pixels per layout pixel
+     * @param onInstalled Run on the FX thread once the new atlas is in use
+     */
+    public static void rescale(double scale, Runnable onInstalled) {
+        SpriteCache.setRenderScale(scale);
+        double target = SpriteCache.getRenderScale();
+        synchronized (GameSprites.class) {
+            if (atlas != null && atlasScale == target) {
+                return;
+            }
+        }
+        Thread builder = new Thread(() -> {
+            SpriteAtlas built;
+            synchronized (GameSprites.class) {
+                // Waits for a build already running, e.g. the preloader's, which may be for this scale
+                built = (atlas != null && atlasScale == target) ? atlas : build(target);
+            }
+            SpriteCache.decodeLevels(); // The images the views get again in onInstalled
+            Platform.runLater(() -> {
+                if (SpriteCache.getRenderScale() != target) {
+                    return; // The scale changed again, the newer build is installed instead
+                }
+                synchronized (GameSprites.class) {
+                    atlas = built;
+                    atlasScale = target;
+                }
+                onInstalled.run();
+            });
+        }, "sprite-atlas-" + target);
+        builder.setDaemon(true);
+        builder.start();
+    }
+
+    /**
+     * Decodes every sprite at its drawn size in device pixels and packs them into a new atlas.
+     * Sprites are drawn at their size in layout pixels, so on a HiDPI screen they keep full detail.
+     *
+     * @param scale The render scale, device pixels per layout pixel
+     * @return the packed atlas
+     */
+    private static SpriteAtlas build(double scale) {
+        SpriteAtlas built = new SpriteAtlas(scaled(ATLAS_WIDTH, scale));
+        walkingArea = built.add(WALKING_AREA_PATH,
+                load(WALKING_AREA_PATH, scaled(WalkGround.SIZE, scale), scaled(WalkGround.SIZE, scale)));
+        for (String path : CROISSANT_PATHS) {
+            built.add(path, load(path, scaled(CroissantModel.WIDTH, scale), scaled(CroissantModel.HEIGHT, scale)));
+        }
+        GifFrames bomb;
+        try {
+            bomb = new GifFrames(BOMB_PATH, scaled(BombModel.WIDTH, scale), scaled(BombModel.HEIGHT, scale));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        bombFrameMillis = new int[bomb.getFrameCount()];
+        for (int i = 0; i < bomb.getFrameCount(); i++) {
+            int id = built.add(BOMB_PATH + "#" + i, bomb.getPixels(i), bomb.getWidth(), bomb.getHeight());
+            if (i == 0) {
+                firstBombFrame = id;
+            }
+            bombFrameMillis[i] = bomb.getDelayMillis(i);
+        }
+        built.pack();
+        return built;
+    }
+
+    /**
+     * Converts a size in layout pixels to device pixels.
+     *
+     * @param size  The size in layout pixels
+     * @param scale The render scale
+     * @return the size in device pixels
+     */
+    private static int scaled(int size, double scale) {
+        return (int) Math.ceil(size * scale);
+    }
+
+    /**
+     * Decodes an image straight at the size it is drawn at.
+     *
+     * @param path   The classpath of the image
+     * @param width  The drawn width in device pixels
+     * @param height The drawn height in device pixels
+     * @return the decoded image
+     */
+    private static Image load(String path, int width, int height) {
+        return new Image(ClassLoader.getSystemResource(path).toString(), width, height, false, true);
+    }
+
+    /**
+     * Gets the id of a croissant sprite.
+     *
+     * @param path The classpath of the croissant image
+     * @return the id of its sprite, or -1 if it is not in the atlas
+     */
+    public static int croissant(String path) {
+        return getAtlas().getId(path);
+    }
+
+    /**
+     * Creates an animation playing the bomb frames with the frame times of the GIF.
+     *
+     * @return a new bomb animation
+     */
+    public static SpriteAnimation createBombAnimation() {
+        getAtlas();
+        return new SpriteAnimation(firstBombFrame, bombFrameMillis);
+    }
+
+    // Getter for the id of the walking area sprite
+    public static int getWalkingArea() {
+        getAtlas();
+        return walkingArea;
+    }
+
+    // Getter for the number of bomb frames
+    public static int getBombFrameCount() {
+        getAtlas();
+        return bombFrameMillis.length;
+    }
+}
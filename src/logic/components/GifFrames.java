@@ -0,0 +1,191 @@
+package logic.components;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+
+/**
+ * The frames of an animated GIF, decoded once and scaled to the size they are drawn at.
+ * JavaFX only exposes the current frame of an animated Image, so the frames are read with
+ * ImageIO. Each frame is composited onto the logical screen following the GIF disposal
+ * rules, then scaled down and kept as ARGB pixels ready to be copied into a texture.
+ */
+public class GifFrames {
+
+    private static final String GIF_METADATA = "javax_imageio_gif_image_1.0";
+    private static final String GIF_STREAM_METADATA = "javax_imageio_gif_stream_1.0";
+    private static final int DEFAULT_DELAY_MILLIS = 100; // Used when a frame has no delay
+
+    private final int width;
+    private final int height;
+    private final int[][] pixels; // ARGB pixels of each frame
+    private final int[] delayMillis; // Display time of each frame
+
+    /**
+     * Decodes a GIF from the classpath.
+     *
+     * @param path   The classpath of the GIF, e.g. "images/tomatoExplosion.gif"
+     * @param width  The width to scale the frames to
+     * @param height The height to scale the frames to
+     * @throws IOException if the GIF cannot be read
+     */
+    public GifFrames(String path, int width, int height) throws IOException {
+        this.width = width;
+        this.height = height;
+        URL url = ClassLoader.getSystemResource(path);
+        if (url == null) {
+            throw new IOException("Missing asset: " + path);
+        }
+        ImageReader reader = ImageIO.getImageReadersByFormatName("gif").next();
+        try (InputStream in = url.openStream(); ImageInputStream stream = ImageIO.createImageInputStream(in)) {
+            reader.setInput(stream);
+            int count = reader.getNumImages(true);
+            pixels = new int[count][];
+            delayMillis = new int[count];
+
+            // The frames are drawn onto the logical screen, sized by the stream metadata
+            Node streamMetadata = reader.getStreamMetadata().getAsTree(GIF_STREAM_METADATA);
+            int screenWidth = intAttribute(streamMetadata, "LogicalScreenDescriptor", "logicalScreenWidth", 0);
+            int screenHeight = intAttribute(streamMetadata, "LogicalScreenDescriptor", "logicalScreenHeight", 0);
+            BufferedImage screen = null;
+            for (int i = 0; i < count; i++) {
+                BufferedImage frame = reader.read(i);
+                Node metadata = reader.getImageMetadata(i).getAsTree(GIF_METADATA);
+                int left = intAttribute(metadata, "ImageDescriptor", "imageLeftPosition", 0);
+                int top = intAttribute(metadata, "ImageDescriptor", "imageTopPosition", 0);
+                int delay = intAttribute(metadata, "GraphicControlExtension", "delayTime", 0) * 10;
+                String disposal = attribute(metadata, "GraphicControlExtension", "disposalMethod");
+                if (screen == null) {
+                    screen = new BufferedImage(Math.max(screenWidth, frame.getWidth() + left),
+                            Math.max(screenHeight, frame.getHeight() + top), BufferedImage.TYPE_INT_ARGB);
+                }
+                BufferedImage previous = "restoreToPrevious".equals(disposal) ? copy(screen) : null;
+
+                Graphics2D g = screen.createGraphics();
+                g.drawImage(frame, left, top, null);
+                pixels[i] = scale(screen, width, height);
+                delayMillis[i] = delay > 0 ? delay : DEFAULT_DELAY_MILLIS;
+
+                // Dispose of the frame before the next one is drawn
+                if ("restoreToBackgroundColor".equals(disposal)) {
+                    g.setComposite(AlphaComposite.Clear);
+                    g.fillRect(left, top, frame.getWidth(), frame.getHeight());
+                } else if (previous != null) {
+                    screen = previous;
+                }
+                g.dispose();
+            }
+        } finally {
+            reader.dispose();
+        }
+    }
+
+    /**
+     * Scales an image down to the given size and returns its ARGB pixels.
+     * The image is halved step by step first, which keeps detail that a single bilinear pass would skip.
+     *
+     * @param source The image to scale
+     * @param width  The target width
+     * @param height The target height
+     * @return the ARGB pixels, row by row
+     */
+    private static int[] scale(BufferedImage source, int width, int height) {
+        BufferedImage current = source;
+        int w = source.getWidth();
+        int h = source.getHeight();
+        do {
+            w = Math.max(width, w / 2);
+            h = Math.max(height, h / 2);
+            BufferedImage next = new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g = next.createGraphics();
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.drawImage(current, 0, 0, w, h, null);
+            g.dispose();
+            current = next;
+        } while (w != width || h != height);
+        return current.getRGB(0, 0, width, height, null, 0, width);
+    }
+
+    /**
+     * Copies an image.
+     *
+     * @param source The image to copy
+     * @return the copy
+     */
+    private static BufferedImage copy(BufferedImage source) {
+        BufferedImage copy = new BufferedImage(source.getWidth(), source.getHeight(), BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = copy.createGraphics();
+        g.drawImage(source, 0, 0, null);
+        g.dispose();
+        return copy;
+    }
+
+    /**
+     * Reads an attribute of a child node of a metadata tree.
+     *
+     * @param metadata The metadata tree
+     * @param node     The name of the child node
+     * @param name     The name of the attribute
+     * @return the value, or null if it is missing
+     */
+    private static String attribute(Node metadata, String node, String name) {
+        for (Node child = metadata.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (child.getNodeName().equals(node)) {
+                NamedNodeMap attributes = child.getAttributes();
+                Node value = attributes.getNamedItem(name);
+                return value == null ? null : value.getNodeValue();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Reads a number attribute of a child node of a metadata tree.
+     *
+     * @param metadata     The metadata tree
+     * @param node         The name of the child node
+     * @param name         The name of the attribute
+     * @param defaultValue The value used when the attribute is missing
+     * @return the value
+     */
+    private static int intAttribute(Node metadata, String node, String name, int defaultValue) {
+        String value = attribute(metadata, node, name);
+        return value == null ? defaultValue : Integer.parseInt(value);
+    }
+
+    // Getter for the number of frames
+    public int getFrameCount() {
+        return pixels.length;
+    }
+
+    // Getter for the ARGB pixels of a frame
+    public int[] getPixels(int frame) {
+        return pixels[frame];
+    }
+
+    // Getter for the display time of a frame in milliseconds
+    public int getDelayMillis(int frame) {
+        return delayMillis[frame];
+    }
+
+    // Getter for the frame width
+    public int getWidth() {
+        return width;
+    }
+
+    // Getter for the frame height
+    public int getHeight() {
+        return height;
+    }
+}
@@ -0,0 +1,192 @@
+package logic.components;
+
+import java.util.Arrays;
+
+import javafx.geometry.Bounds;
+import javafx.scene.Group;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+import javafx.scene.transform.Scale;
+
+/**
+ * A bitmap font for the HUD.
+ * Every glyph of a fixed character set is rasterized once into a single atlas image,
+ * and text is then drawn by copying sub-rectangles of that image onto a canvas,
+ * so drawing never lays out text or allocates.
+ * The atlas is built with a snapshot, so it must be created on the FX thread.
+ */
+public class GlyphAtlas {
+
+    private static final int GLYPH_PADDING = 2; // Gap between glyphs so scaled copies don't bleed
+
+    private final String chars; // The characters in the atlas, in atlas order
+    private final int[] index = new int[128]; // Atlas slot for each ASCII char, -1 if missing
+    private final double[] glyphX; // Left edge of each glyph in the atlas
+    private final double[] glyphWidth; // Advance width of each glyph
+    private final double height; // Line height shared by all glyphs
+    private final double baseline; // Distance from the top of the line to the baseline
+    private final double maxWidth; // Widest glyph, used for fixed-width digits
+    private final double scale; // Device pixels per layout pixel in the atlas
+    private final WritableImage atlas;
+
+    /**
+     * Rasterizes the given characters into a new atlas.
+     *
+     * @param font  The font to draw the glyphs with
+     * @param color The glyph color
+     * @param chars The ASCII characters to include
+     */
+    public GlyphAtlas(Font font, Color color, String chars) {
+        this.chars = chars;
+        this.glyphX = new double[chars.length()];
+        this.glyphWidth = new double[chars.length()];
+        Arrays.fill(index, -1);
+
+        Group strip = new Group();
+        double x = 0;
+        double lineHeight = 0;
+        double widest = 0;
+        double ascent = 0;
+        for (int i = 0; i < chars.length(); i++) {
+            char c = chars.charAt(i);
+            Text glyph = new Text(String.valueOf(c));
+            glyph.setFont(font);
+            glyph.setFill(color);
+            Bounds bounds = glyph.getLayoutBounds();
+            glyph.setX(x);
+            glyph.setY(-bounds.getMinY()); // Put the top of the line at y = 0
+            strip.getChildren().add(glyph);
+
+            index[c] = i;
+            glyphX[i] = x;
+            glyphWidth[i] = bounds.getWidth();
+            lineHeight = Math.max(lineHeight, bounds.getHeight());
+            widest = Math.max(widest, bounds.getWidth());
+            ascent = Math.max(ascent, -bounds.getMinY());
+            x += Math.ceil(bounds.getWidth()) + GLYPH_PADDING;
+        }
+        this.height = lineHeight;
+        this.maxWidth = widest;
+        this.baseline = ascent;
+
+        // Rasterize at the render scale so the glyphs stay sharp on HiDPI screens
+        this.scale = SpriteCache.getRenderScale();
+        SnapshotParameters parameters = new SnapshotParameters();
+        parameters.setFill(Color.TRANSPARENT);
+        parameters.setTransform(new Scale(scale, scale));
+        parameters.setViewport(new Rectangle2D(0, 0, Math.ceil(x * scale), Math.ceil(lineHeight * scale)));
+        this.atlas = strip.snapshot(parameters, null);
+    }
+
+    /**
+     * Draws one glyph with its top-left corner at (x, y).
+     * Characters missing from the atlas are skipped.
+     *
+     * @param gc The graphics context to draw on
+     * @param c  The character to draw
+     * @param x  The left edge
+     * @param y  The top edge
+     * @return the advance width of the glyph, 0 if it is missing
+     */
+    public double drawChar(GraphicsContext gc, char c, double x, double y) {
+        int i = c < index.length ? index[c] : -1;
+        if (i < 0) {
+            return 0;
+        }
+        gc.drawImage(atlas, glyphX[i] * scale, 0, glyphWidth[i] * scale, height * scale, x, y, glyphWidth[i], height);
+        return glyphWidth[i];
+    }
+
+    /**
+     * Draws a run of characters from a buffer, starting at (x, y).
+     *
+     * @param gc     The graphics context to draw on
+     * @param buffer The characters
+     * @param start  The first index to draw
+     * @param end    The index after the last one to draw
+     * @param x      The left edge
+     * @param y      The top edge
+     * @return the total advance width
+     */
+    public double drawChars(GraphicsContext gc, char[] buffer, int start, int end, double x, double y) {
+        double cursor = x;
+        for (int i = start; i < end; i++) {
+            cursor += drawChar(gc, buffer[i], cursor, y);
+        }
+        return cursor - x;
+    }
+
+    /**
+     * Draws a string starting at (x, y).
+     *
+     * @param gc   The graphics context to draw on
+     * @param text The text
+     * @param x    The left edge
+     * @param y    The top edge
+     * @return the total advance width
+     */
+    public double drawString(GraphicsContext gc, String text, double x, double y) {
+        double cursor = x;
+        for (int i = 0; i < text.length(); i++) {
+            cursor += drawChar(gc, text.charAt(i), cursor, y);
+        }
+        return cursor - x;
+    }
+
+    /**
+     * Draws a string with every glyph centered in a cell of the widest glyph's width,
+     * so numbers keep the same width whatever their digits.
+     *
+     * @param gc   The graphics context to draw on
+     * @param text The text
+     * @param x    The left edge
+     * @param y    The top edge
+     */
+    public void drawFixed(GraphicsContext gc, String text, double x, double y) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            drawChar(gc, c, x + i * maxWidth + (maxWidth - getWidth(c)) / 2, y);
+        }
+    }
+
+    /**
+     * Returns the advance width of a character.
+     *
+     * @param c The character
+     * @return its width, 0 if it is missing from the atlas
+     */
+    public double getWidth(char c) {
+        int i = c < index.length ? index[c] : -1;
+        return i < 0 ? 0 : glyphWidth[i];
+    }
+
+    // Getter for the characters in the atlas
+    public String getChars() {
+        return chars;
+    }
+
+    // Getter for the line height
+    public double getHeight() {
+        return height;
+    }
+
+    // Getter for the distance from the top of the line to the baseline
+    public double getBaseline() {
+        return baseline;
+    }
+
+    // Getter for the widest glyph
+    public double getMaxWidth() {
+        return maxWidth;
+    }
+
+    // Getter for the atlas image
+    public WritableImage getAtlas() {
+        return atlas;
+    }
+}
@@ -0,0 +1,51 @@
+package logic.components;
+
+/**
+ * Helpers for formatting HUD numbers without String.format or boxing.
+ * Two-digit groups come from a table of shared strings; other numbers are written
+ * into a caller-owned char buffer that is reused for every update.
+ */
+public final class HudText {
+
+    // "00" to "99", shared by every HUD that shows two-digit groups
+    private static final String[] TWO_DIGITS = new String[100];
+
+    static {
+        for (int i = 0; i < TWO_DIGITS.length; i++) {
+            TWO_DIGITS[i] = new String(new char[] { (char) ('0' + i / 10), (char) ('0' + i % 10) });
+        }
+    }
+
+    private HudText() {
+    }
+
+    /**
+     * Returns a number from 0 to 99 as two digits.
+     *
+     * @param value the number, clamped to 0..99
+     * @return the shared two-digit string
+     */
+    public static String twoDigits(int value) {
+        return TWO_DIGITS[Math.max(0, Math.min(99, value))];
+    }
+
+    /**
+     * Writes a number right-aligned into the end of a buffer.
+     *
+     * @param value  the number to write
+     * @param buffer the buffer, long enough for the digits and sign (12 chars fit any int)
+     * @return the index of the first written char; the text runs to the end of the buffer
+     */
+    public static int formatInt(int value, char[] buffer) {
+        int pos = buffer.length;
+        long rest = Math.abs((long) value);
+        do {
+            buffer[--pos] = (char) ('0' + rest % 10);
+            rest /= 10;
+        } while (rest > 0);
+        if (value < 0) {
+            buffer[--pos] = '-';
+        }
+        return pos;
+    }
+}
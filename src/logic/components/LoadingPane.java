@@ -0,0 +1,53 @@
+package logic.components;
+
+import javafx.geometry.Pos;
+import javafx.scene.control.ProgressBar;
+import javafx.scene.layout.Background;
+import javafx.scene.layout.BackgroundFill;
+import javafx.scene.layout.VBox;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.scene.text.Text;
+
+/**
+ * A lightweight splash screen shown while the AssetPreloader loads the game's assets.
+ * It uses no images, so it can be shown before anything has been decoded.
+ */
+public class LoadingPane extends VBox {
+
+    private static final double BAR_WIDTH = 400;
+
+    private final ProgressBar progressBar; // Bar showing the loading progress
+    private final Text status; // Text showing how many assets are loaded
+
+    /**
+     * Constructor to create the splash screen for a preloader.
+     *
+     * @param preloader The preloader whose progress is shown
+     */
+    public LoadingPane(AssetPreloader preloader) {
+        this.setAlignment(Pos.CENTER);
+        this.setSpacing(30);
+        this.setBackground(new Background(new BackgroundFill(Color.rgb(87, 87, 82), null, null)));
+
+        Text title = new Text("CROISSANT BOOM!!!");
+        title.setFont(Font.font("Comic Sans MS", FontWeight.BOLD, 60));
+        title.setFill(Color.WHITE);
+
+        progressBar = new ProgressBar(0);
+        progressBar.setPrefWidth(BAR_WIDTH);
+        progressBar.setStyle("-fx-accent: rgb(222, 139, 100);");
+
+        status = new Text("Loading...");
+        status.setFont(Font.font("Comic Sans MS", 20));
+        status.setFill(Color.WHITE);
+
+        // Follow the preloader's progress
+        progressBar.progressProperty().bind(preloader.progressProperty());
+        preloader.progressProperty().addListener(observable ->
+                status.setText("Loading " + preloader.getFinished() + " / " + preloader.getTotal()));
+
+        this.getChildren().addAll(title, progressBar, status);
+    }
+}
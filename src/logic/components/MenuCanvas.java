@@ -32,7 +32,7 @@ public class MenuCanvas extends AnchorPane {
      * Initializes and sets the background image for the menu screen.
      */
     private void initializeBackground() {
-        Image bgImage = new Image(ClassLoader.getSystemResource(BACKGROUND_IMAGE_PATH).toString());
+        Image bgImage = AssetCache.image(BACKGROUND_IMAGE_PATH);
 
         BackgroundImage backgroundImage = new BackgroundImage(
                 bgImage, 
@@ -1,6 +1,7 @@
 package logic.components;
 
 import javafx.scene.image.ImageView;
+import logic.model.CroissantModel;
 
 /**
  * RainbowCroissant class extends Croissant to represent a specific type of croissant.
@@ -13,18 +14,15 @@ public class RainbowCroissant extends Croissant {
     private static final String RAW_IMAGE_PATH = "images/rawRainbowCroissant.png";
     private static final String BURNED_IMAGE_PATH = "images/burnedCroissant.png";
     private static final String RAINBOW_IMAGE_PATH = "images/rainbowCroissant.png";
-    
-    // Constants for croissant properties
-    private static final int BAKE_TIME = 8; // Bake time in seconds
-    private static final int BASE_SCORE = 250; // Base score for the croissant
 
     /**
      * Constructor for the RainbowCroissant.
-     * Sets the name, bake time, base score, and image for the Rainbow Croissant.
+     * Creates the view of a Rainbow Croissant with its raw image.
+     *
+     * @param model The Rainbow Croissant shown by this view
      */
-    public RainbowCroissant() {
-        // Calls the parent constructor with specific values for this croissant type
-        super("Rainbow Croissant", BAKE_TIME, BASE_SCORE, RAW_IMAGE_PATH); // Bake time 8s, Base Score 250
+    public RainbowCroissant(CroissantModel model) {
+        super(model, RAW_IMAGE_PATH);
     }
 
     /**
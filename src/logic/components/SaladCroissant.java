@@ -1,6 +1,7 @@
 package logic.components;
 
 import javafx.scene.image.ImageView;
+import logic.model.CroissantModel;
 
 /**
  * SaladCroissant class extends Croissant to represent a specific type of croissant.
@@ -13,18 +14,15 @@ public class SaladCroissant extends Croissant {
     private static final String RAW_IMAGE_PATH = "images/rawSaladCroissant.png";
     private static final String BURNED_IMAGE_PATH = "images/burnedCroissant.png";
     private static final String SALAD_IMAGE_PATH = "images/saladCroissant.png";
-    
-    // Constants for croissant properties
-    private static final int BAKE_TIME = 6; // Bake time in seconds
-    private static final int BASE_SCORE = 120; // Base score for the croissant
 
     /**
      * Constructor for the SaladCroissant.
-     * Sets the name, bake time, base score, and image for the Salad Croissant.
+     * Creates the view of a Salad Croissant with its raw image.
+     *
+     * @param model The Salad Croissant shown by this view
      */
-    public SaladCroissant() {
-        // Calls the parent constructor with specific values for this croissant type
-        super("Salad Croissant", BAKE_TIME, BASE_SCORE, RAW_IMAGE_PATH); // Bake time 6s, Base Score 120
+    public SaladCroissant(CroissantModel model) {
+        super(model, RAW_IMAGE_PATH);
     }
 
     /**
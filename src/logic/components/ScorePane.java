@@ -1,63 +1,115 @@
 package logic.components;
 
-import javafx.geometry.Pos;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.layout.Pane;
 import javafx.scene.paint.Color;
 import javafx.scene.text.Font;
-import javafx.scene.text.Text;
-import javafx.scene.text.TextAlignment;
-import logic.game.GameLogic;
-import logic.game.Timer;
+import logic.game.ResetGameAble;
+import logic.model.Score;
 
 /**
  * A class representing the score pane, which displays the score text and score count.
+ * Both are drawn onto a canvas from glyph atlases. The score is an observable number;
+ * the count is only redrawn when it changes, and its digits are formatted into a reusable buffer.
  */
-public class ScorePane extends Pane {
+public class ScorePane extends Pane implements ResetGameAble {
 
-    private Text scoreText; // Text for "SCORE" label
-    private Text scoreCount; // Text for the score count
+    private static final double WIDTH = 200;
+    private static final double HEIGHT = 80;
+    private static final double LABEL_X = 15;
+    private static final double LABEL_Y = 20; // Baseline of the "SCORE" label
+    private static final double COUNT_X = 10;
+    private static final double COUNT_Y = 70; // Baseline of the score count
+
+    // Glyphs are rasterized once and shared by every ScorePane
+    private static GlyphAtlas labelGlyphs;
+    private static GlyphAtlas countGlyphs;
+
+    private final Canvas canvas = new Canvas(WIDTH, HEIGHT);
+    private final GraphicsContext gc = canvas.getGraphicsContext2D();
+    private final char[] digits = new char[12]; // Reusable buffer for formatting the score
+    private final IntegerProperty score = new SimpleIntegerProperty(this, "score", 0);
 
     /**
      * Constructor to initialize the score pane layout and display the initial score.
      */
     public ScorePane() {
-        this.setPrefWidth(200);
-        this.setPrefHeight(80);
+        this.setPrefWidth(WIDTH);
+        this.setPrefHeight(HEIGHT);
 
-        // Initialize score text and score count
-        scoreText = new Text("SCORE");
-        scoreCount = new Text("0");
+        if (labelGlyphs == null) {
+            createGlyphs();
+        }
 
-        // Set font styles
-        scoreText.setFont(new Font("Comic Sans MS", 15));
-        scoreCount.setFont(new Font("Comic Sans MS", 55));
+        // Draw the label once and the initial score
+        drawAll();
 
-        // Set position for the score text
-        scoreText.setX(15);
-        scoreText.setY(20);
-        scoreText.setTextAlignment(TextAlignment.CENTER);
+        // Redraw the count whenever the score changes
+        score.addListener(observable -> showScore(score.get()));
 
-        // Set position for the score count
-        scoreCount.setX(10);
-        scoreCount.setY(70);
-        scoreCount.setTextAlignment(TextAlignment.CENTER);
+        // Add the canvas to the pane
+        this.getChildren().add(canvas);
+    }
 
-        // Set text color
-        scoreText.setFill(Color.BLACK);
-        scoreCount.setFill(Color.BLACK);
+    // Rasterize the glyphs at the current render scale
+    private static void createGlyphs() {
+        labelGlyphs = new GlyphAtlas(new Font("Comic Sans MS", 15), Color.BLACK, "SCORE");
+        countGlyphs = new GlyphAtlas(new Font("Comic Sans MS", 55), Color.BLACK, "-0123456789");
+    }
 
-        // Update the score display by calling GameLogic
-        GameLogic.scoreBoard();
+    // Draw the label and the score on a cleared canvas
+    private void drawAll() {
+        gc.clearRect(0, 0, WIDTH, HEIGHT);
+        labelGlyphs.drawString(gc, "SCORE", LABEL_X, LABEL_Y - labelGlyphs.getBaseline());
+        showScore(score.get());
+    }
 
-        // Add the score texts to the pane
-        this.getChildren().addAll(scoreText, scoreCount);
+    /**
+     * Rasterizes the glyphs again at the current render scale and redraws the pane,
+     * called when the window moves to a screen with another output scale. Must be called on the FX thread.
+     */
+    public void rescale() {
+        createGlyphs();
+        drawAll();
+    }
+
+    /**
+     * Redraws the score count.
+     * @param value The score to show.
+     */
+    private void showScore(int value) {
+        double top = COUNT_Y - countGlyphs.getBaseline();
+        int start = HudText.formatInt(value, digits);
+        gc.clearRect(COUNT_X, top, WIDTH - COUNT_X, countGlyphs.getHeight());
+        countGlyphs.drawChars(gc, digits, start, digits.length, COUNT_X, top);
     }
 
     /**
      * Updates the score count display with the new score.
+     * Nothing is redrawn if the score has not changed.
      * @param score The new score to display.
      */
     public void setScoreText(Score score) {
-        scoreCount.setText(score.toString());
+        this.score.set(score.getScore());
+    }
+
+    /**
+     * Shows a score of zero for the next round.
+     */
+    @Override
+    public void reset() {
+        score.set(0);
+    }
+
+    /**
+     * Returns the displayed score as an observable number.
+     * @return the score property
+     */
+    public ReadOnlyIntegerProperty scoreProperty() {
+        return score;
     }
 }
@@ -9,17 +9,23 @@ import javafx.scene.text.Font;
 import javafx.scene.text.FontWeight;
 import javafx.scene.text.Text;
 import logic.game.GameLogic;
+import logic.game.ResetGameAble;
 import logic.game.SceneController;
+import logic.model.CroissantType;
+import logic.model.ScoreLedger;
+import logic.model.ServeOutcome;
 
 /**
  * A class that displays the score and provides a restart button.
  * Implements a singleton design pattern for a single instance.
  */
-public class Scoreandrestart extends VBox {
+public class Scoreandrestart extends VBox implements ResetGameAble {
 
     private static Scoreandrestart instance; // Singleton instance
     private Button selectRestart; // Button to restart the game
     private Text score; // Text to display the score
+    private Text breakdown; // Text to display the serves of each kind
+    private final StringBuilder lines = new StringBuilder(); // Reused to build the breakdown
 
     /**
      * Constructor to initialize the layout, score, and restart button.
@@ -33,21 +39,70 @@ public class Scoreandrestart extends VBox {
 
         initializeRestartButton();
         initializeScoreDisplay();
+        initializeBreakdownDisplay();
 
-        this.getChildren().addAll(score, selectRestart);
+        this.getChildren().addAll(score, breakdown, selectRestart);
     }
 
     /**
      * Initializes the score display with the current score.
      */
     private void initializeScoreDisplay() {
-        Text text = new Text("SCORE: " + GameLogic.getScore());
+        Text text = new Text(scoreLine());
         text.setFont(Font.font("Comic Sans MS", FontWeight.BOLD, 72));
         text.setFill(Color.rgb(87, 87, 82));
         text.setVisible(true);
         this.score = text;
     }
 
+    /**
+     * Initializes the breakdown of perfect serves per croissant type and of failed serves,
+     * read from the score ledger of the round.
+     */
+    private void initializeBreakdownDisplay() {
+        Text text = new Text(breakdownLines());
+        text.setFont(Font.font("Comic Sans MS", FontWeight.BOLD, 24));
+        text.setFill(Color.rgb(87, 87, 82));
+        this.breakdown = text;
+    }
+
+    /**
+     * Formats the score line of the round.
+     *
+     * @return the score line
+     */
+    private String scoreLine() {
+        return "SCORE: " + GameLogic.getScore();
+    }
+
+    /**
+     * Formats the perfect serves per croissant type and the failed serves of the round.
+     *
+     * @return the breakdown, empty if no round was played
+     */
+    private String breakdownLines() {
+        ScoreLedger ledger = GameLogic.getScore();
+        lines.setLength(0);
+        if (ledger != null) {
+            for (CroissantType type : CroissantType.values()) {
+                lines.append(type.getDisplayName()).append(": ")
+                        .append(ledger.getServeCount(type, ServeOutcome.PERFECT)).append('\n');
+            }
+            lines.append("Burned: ").append(ledger.getServeCount(ServeOutcome.BURNED))
+                    .append("   Undercooked: ").append(ledger.getServeCount(ServeOutcome.UNDERCOOKED));
+        }
+        return lines.toString();
+    }
+
+    /**
+     * Shows the score and breakdown of the round that just ended.
+     */
+    @Override
+    public void reset() {
+        score.setText(scoreLine());
+        breakdown.setText(breakdownLines());
+    }
+
     /**
      * Initializes the restart button with hover effects and click action.
      */
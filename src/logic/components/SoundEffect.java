@@ -0,0 +1,49 @@
+package logic.components;
+
+/**
+ * Enum representing the game's sound effects with the rules for playing them.
+ * The length of each clip is the longest the AudioEngine holds a voice for it; the voice is
+ * freed earlier once the clip has stopped playing.
+ */
+public enum SoundEffect {
+    SPAWN("sounds/spawnSound.mp3", 1776, 2),     // A new croissant appears
+    SQUISH("sounds/tomatoSquish.mp3", 1056, 4),  // The croissant hits a bomb
+    BELL("sounds/bellDing.mp3", 4032, 3);        // A croissant is taken out of the oven, rings over itself
+
+    private static final SoundEffect[] EFFECTS = values();
+
+    private final String path;
+    private final int lengthMillis;
+    private final int maxVoices;
+
+    SoundEffect(String path, int lengthMillis, int maxVoices) {
+        this.path = path;
+        this.lengthMillis = lengthMillis;
+        this.maxVoices = maxVoices;
+    }
+
+    /**
+     * Gets the effect for an ordinal without allocating a values() array.
+     *
+     * @param ordinal The ordinal of the effect
+     * @return The sound effect
+     */
+    public static SoundEffect of(int ordinal) {
+        return EFFECTS[ordinal];
+    }
+
+    // Getter for the classpath of the clip
+    public String getPath() {
+        return path;
+    }
+
+    // Getter for the length of the clip in milliseconds, the longest a voice is held
+    public int getLengthMillis() {
+        return lengthMillis;
+    }
+
+    // Getter for the number of copies of this effect that may play at once
+    public int getMaxVoices() {
+        return maxVoices;
+    }
+}
@@ -0,0 +1,83 @@
+package logic.components;
+
+/**
+ * A looping animation whose frames are consecutive sprites of a sprite atlas, driven by one
+ * shared clock. The clock is set once per rendered frame; every sprite that plays the
+ * animation only keeps an int phase, its offset into the loop, so each one can start on its
+ * first frame without owning any animation state or frame buffers.
+ * Frames are looked up in a table with one entry per millisecond of the loop.
+ */
+public class SpriteAnimation {
+
+    private final int firstSprite; // Sprite id of the first frame, the others follow it
+    private final int[] spriteAt; // Frame index shown at each millisecond of the loop
+    private final int[] untilNext; // Milliseconds from each millisecond of the loop to the next frame
+    private long timeMillis; // Shared animation clock
+
+    /**
+     * Creates an animation.
+     *
+     * @param firstSprite The sprite id of the first frame
+     * @param frameMillis The display time of each frame in milliseconds
+     */
+    public SpriteAnimation(int firstSprite, int[] frameMillis) {
+        this.firstSprite = firstSprite;
+        int cycle = 0;
+        for (int delay : frameMillis) {
+            cycle += Math.max(1, delay);
+        }
+        spriteAt = new int[cycle];
+        untilNext = new int[cycle];
+        int t = 0;
+        for (int frame = 0; frame < frameMillis.length; frame++) {
+            int delay = Math.max(1, frameMillis[frame]);
+            for (int i = 0; i < delay; i++) {
+                untilNext[t] = delay - i;
+                spriteAt[t++] = frame;
+            }
+        }
+    }
+
+    /**
+     * Sets the shared clock, called once per rendered frame.
+     *
+     * @param millis The current time in milliseconds
+     */
+    public void setTime(long millis) {
+        this.timeMillis = millis;
+    }
+
+    /**
+     * Returns the phase that makes a sprite start on the first frame right now.
+     *
+     * @return the phase to keep with the sprite
+     */
+    public int startPhase() {
+        return (int) Math.floorMod(timeMillis, (long) spriteAt.length);
+    }
+
+    /**
+     * Returns the sprite to draw for a sprite with the given phase.
+     *
+     * @param phase The phase of the sprite, from startPhase()
+     * @return the sprite id of its current frame
+     */
+    public int spriteFor(int phase) {
+        return firstSprite + spriteAt[(int) Math.floorMod(timeMillis - phase, (long) spriteAt.length)];
+    }
+
+    /**
+     * Returns how long the current frame of a sprite with the given phase is still shown.
+     *
+     * @param phase The phase of the sprite, from startPhase()
+     * @return the milliseconds until its next frame, at least 1
+     */
+    public int millisUntilNextFrame(int phase) {
+        return untilNext[(int) Math.floorMod(timeMillis - phase, (long) spriteAt.length)];
+    }
+
+    // Getter for the length of the loop in milliseconds
+    public int getCycleMillis() {
+        return spriteAt.length;
+    }
+}
@@ -0,0 +1,196 @@
+package logic.components;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.PixelReader;
+import javafx.scene.image.PixelWriter;
+import javafx.scene.image.WritableImage;
+
+/**
+ * A texture atlas: many sprites packed into one image with a table of their sub-rectangles.
+ * Sprites are added as ARGB pixels at the size they are drawn at, then pack() lays them out
+ * on shelves, tallest first, and copies them into the atlas image. Drawing a sprite copies
+ * its sub-rectangle of the one texture, so every sprite shares the same texture upload.
+ * The atlas is written with a PixelWriter, so it can be built off the FX thread.
+ */
+public class SpriteAtlas {
+
+    private static final int PADDING = 1; // Gap between sprites so filtered copies don't bleed
+
+    private final int width; // Width of the atlas image
+    private final List<int[]> pending = new ArrayList<>(); // Pixels of each sprite until it is packed
+    private final Map<String, Integer> ids = new HashMap<>(); // Sprite name to id
+    private int[] spriteX = new int[0]; // Lookup table of sprite rectangles, indexed by id
+    private int[] spriteY = new int[0];
+    private int[] spriteWidth = new int[0];
+    private int[] spriteHeight = new int[0];
+    private WritableImage image;
+
+    /**
+     * Creates an empty atlas.
+     *
+     * @param width The width of the atlas image; no sprite may be wider
+     */
+    public SpriteAtlas(int width) {
+        this.width = width;
+    }
+
+    /**
+     * Adds a sprite from ARGB pixels.
+     *
+     * @param name   The name the sprite is looked up by
+     * @param argb   The pixels, row by row
+     * @param w      The sprite width
+     * @param h      The sprite height
+     * @return the id of the sprite
+     */
+    public int add(String name, int[] argb, int w, int h) {
+        if (image != null) {
+            throw new IllegalStateException("The atlas is already packed");
+        }
+        if (w > width) {
+            throw new IllegalArgumentException("Sprite " + name + " is wider than the atlas");
+        }
+        int id = pending.size();
+        pending.add(argb);
+        spriteWidth = append(spriteWidth, w);
+        spriteHeight = append(spriteHeight, h);
+        ids.put(name, id);
+        return id;
+    }
+
+    /**
+     * Adds a sprite from an image, which must already be loaded at the size it is drawn at.
+     *
+     * @param name  The name the sprite is looked up by
+     * @param image The sprite image
+     * @return the id of the sprite
+     */
+    public int add(String name, Image image) {
+        int w = (int) image.getWidth();
+        int h = (int) image.getHeight();
+        int[] argb = new int[w * h];
+        PixelReader reader = image.getPixelReader();
+        reader.getPixels(0, 0, w, h, PixelFormat.getIntArgbInstance(), argb, 0, w);
+        return add(name, argb, w, h);
+    }
+
+    /**
+     * Lays out the sprites on shelves and writes them into the atlas image.
+     */
+    public void pack() {
+        int count = pending.size();
+        spriteX = new int[count];
+        spriteY = new int[count];
+
+        // Place the tallest sprites first so every shelf is filled with sprites of similar height
+        Integer[] order = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> spriteHeight[b] - spriteHeight[a]);
+        int x = 0;
+        int y = 0;
+        int shelfHeight = 0;
+        for (int id : order) {
+            if (x + spriteWidth[id] > width) {
+                x = 0;
+                y += shelfHeight + PADDING;
+                shelfHeight = 0;
+            }
+            spriteX[id] = x;
+            spriteY[id] = y;
+            x += spriteWidth[id] + PADDING;
+            shelfHeight = Math.max(shelfHeight, spriteHeight[id]);
+        }
+
+        image = new WritableImage(width, Math.max(1, y + shelfHeight));
+        PixelWriter writer = image.getPixelWriter();
+        for (int id = 0; id < count; id++) {
+            writer.setPixels(spriteX[id], spriteY[id], spriteWidth[id], spriteHeight[id],
+                    PixelFormat.getIntArgbInstance(), pending.get(id), 0, spriteWidth[id]);
+        }
+        pending.clear(); // The pixels now live in the atlas
+    }
+
+    /**
+     * Draws a sprite at its own size with its top-left corner at (x, y).
+     *
+     * @param gc The graphics context to draw on
+     * @param id The id of the sprite
+     * @param x  The left edge
+     * @param y  The top edge
+     */
+    public void draw(GraphicsContext gc, int id, double x, double y) {
+        draw(gc, id, x, y, spriteWidth[id], spriteHeight[id]);
+    }
+
+    /**
+     * Draws a sprite scaled to the given size.
+     *
+     * @param gc The graphics context to draw on
+     * @param id The id of the sprite
+     * @param x  The left edge
+     * @param y  The top edge
+     * @param w  The drawn width
+     * @param h  The drawn height
+     */
+    public void draw(GraphicsContext gc, int id, double x, double y, double w, double h) {
+        gc.drawImage(image, spriteX[id], spriteY[id], spriteWidth[id], spriteHeight[id], x, y, w, h);
+    }
+
+    /**
+     * Looks up a sprite by name. Look ids up once and keep them, not on every frame.
+     *
+     * @param name The name the sprite was added with
+     * @return the id of the sprite, or -1 if there is none
+     */
+    public int getId(String name) {
+        Integer id = ids.get(name);
+        return id == null ? -1 : id;
+    }
+
+    private static int[] append(int[] values, int value) {
+        int[] grown = Arrays.copyOf(values, values.length + 1);
+        grown[values.length] = value;
+        return grown;
+    }
+
+    /**
+     * Returns the sub-rectangle of a sprite, for showing it in an ImageView of the atlas image.
+     *
+     * @param id The id of the sprite
+     * @return the rectangle of the sprite in the atlas
+     */
+    public Rectangle2D getViewport(int id) {
+        return new Rectangle2D(spriteX[id], spriteY[id], spriteWidth[id], spriteHeight[id]);
+    }
+
+    // Getter for the atlas image, null until the atlas is packed
+    public WritableImage getImage() {
+        return image;
+    }
+
+    // Getter for the number of sprites
+    public int getSpriteCount() {
+        return spriteWidth.length;
+    }
+
+    // Getter for the width of a sprite
+    public int getSpriteWidth(int id) {
+        return spriteWidth[id];
+    }
+
+    // Getter for the height of a sprite
+    public int getSpriteHeight(int id) {
+        return spriteHeight[id];
+    }
+}
@@ -0,0 +1,267 @@
+package logic.components;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+
+import javafx.scene.image.Image;
+import javafx.stage.Screen;
+
+/**
+ * Resolution-aware cache of pre-scaled images.
+ * Each image has a chain of mip levels, every one half the size of the one before. A request
+ * names the size the image is shown at; the cache multiplies it by the render scale (the
+ * output scale of HiDPI screens) and returns the smallest level that still covers it.
+ * Levels are decoded straight at their size the first time they are needed and then reused,
+ * so a large source such as the recipe is never held at full resolution when it is shown small.
+ * When the render scale changes, decodeLevels builds the levels for the new scale and drops the old ones.
+ */
+public final class SpriteCache {
+
+    private static final Map<String, int[]> sourceSizes = new HashMap<>(); // Full width and height of each image
+    private static final Map<String, Image> levels = new HashMap<>(); // Decoded levels by "path#level"
+    private static final Map<String, Request> requests = new HashMap<>(); // Every image and size asked for
+    private static double renderScale = detectRenderScale();
+    private static long levelBytes;
+    private static long hits;
+    private static long misses;
+
+    private SpriteCache() {
+    }
+
+    /**
+     * An image and the size it is shown at, remembered so it can be decoded again for a new scale.
+     */
+    private static final class Request {
+        private final String path;
+        private final double width;
+        private final double height;
+
+        Request(String path, double width, double height) {
+            this.path = path;
+            this.width = width;
+            this.height = height;
+        }
+    }
+
+    /**
+     * Gets an image at the mip level that fits the size it is shown at.
+     *
+     * @param path          The classpath of the image, e.g. "images/recipe.png"
+     * @param displayWidth  The width the image is shown at, in layout pixels
+     * @param displayHeight The height the image is shown at, in layout pixels
+     * @return the shared image of that level
+     */
+    public static Image image(String path, double displayWidth, double displayHeight) {
+        int[] size = sourceSize(path);
+        int level;
+        String key;
+        synchronized (SpriteCache.class) {
+            String request = path + "@" + displayWidth + "x" + displayHeight;
+            if (!requests.containsKey(request)) {
+                requests.put(request, new Request(path, displayWidth, displayHeight));
+            }
+            level = levelFor(size[0], size[1], displayWidth * renderScale, displayHeight * renderScale);
+            key = path + "#" + level;
+            Image image = levels.get(key);
+            if (image != null) {
+                hits++;
+                return image;
+            }
+            misses++;
+        }
+
+        // Decode outside the lock, so several threads can build levels at once
+        int width = levelSize(size[0], level);
+        int height = levelSize(size[1], level);
+        Image image = new Image(resource(path).toString(), width, height, false, true);
+        synchronized (SpriteCache.class) {
+            Image existing = levels.putIfAbsent(key, image);
+            if (existing != null) {
+                return existing; // Another thread built the level first
+            }
+            levelBytes += (long) width * height * 4;
+            return image;
+        }
+    }
+
+    /**
+     * Decodes every image that was asked for at the level of the current render scale and drops
+     * the levels no size needs any more, after the window moved to a screen with another output scale.
+     * Views pick the new levels up by asking for their images again. May be called off the FX thread.
+     */
+    public static void decodeLevels() {
+        Request[] wanted;
+        synchronized (SpriteCache.class) {
+            wanted = requests.values().toArray(new Request[0]);
+        }
+        Set<String> kept = new HashSet<>();
+        for (Request request : wanted) {
+            Image image = image(request.path, request.width, request.height);
+            synchronized (SpriteCache.class) {
+                for (Map.Entry<String, Image> level : levels.entrySet()) {
+                    if (level.getValue() == image) {
+                        kept.add(level.getKey());
+                    }
+                }
+            }
+        }
+        synchronized (SpriteCache.class) {
+            Iterator<Map.Entry<String, Image>> it = levels.entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<String, Image> level = it.next();
+                if (!kept.contains(level.getKey())) {
+                    Image image = level.getValue();
+                    levelBytes -= (long) image.getWidth() * (long) image.getHeight() * 4;
+                    it.remove();
+                }
+            }
+        }
+    }
+
+    /**
+     * Picks the smallest level that still covers the wanted size in both directions.
+     *
+     * @param width        The full width
+     * @param height       The full height
+     * @param targetWidth  The wanted width in device pixels
+     * @param targetHeight The wanted height in device pixels
+     * @return the level, 0 being the full size
+     */
+    private static int levelFor(int width, int height, double targetWidth, double targetHeight) {
+        int level = 0;
+        while (levelSize(width, level + 1) >= targetWidth && levelSize(height, level + 1) >= targetHeight
+                && levelSize(width, level + 1) < levelSize(width, level)) {
+            level++;
+        }
+        return level;
+    }
+
+    /**
+     * Returns one side of a mip level.
+     *
+     * @param size  The full size of the side
+     * @param level The level
+     * @return the size of the side at that level, at least 1
+     */
+    private static int levelSize(int size, int level) {
+        return Math.max(1, (size + (1 << level) - 1) >> level);
+    }
+
+    /**
+     * Reads the full size of an image from its header, without decoding it.
+     *
+     * @param path The classpath of the image
+     * @return its width and height
+     */
+    private static int[] sourceSize(String path) {
+        synchronized (SpriteCache.class) {
+            int[] size = sourceSizes.get(path);
+            if (size != null) {
+                return size;
+            }
+        }
+        int[] size = readSize(resource(path));
+        synchronized (SpriteCache.class) {
+            sourceSizes.putIfAbsent(path, size);
+            return sourceSizes.get(path);
+        }
+    }
+
+    /**
+     * Reads the size of an image with ImageIO, decoding it only if no reader knows the format.
+     *
+     * @param url The URL of the image
+     * @return its width and height
+     */
+    private static int[] readSize(URL url) {
+        try (InputStream in = url.openStream(); ImageInputStream stream = ImageIO.createImageInputStream(in)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(stream);
+            if (readers.hasNext()) {
+                ImageReader reader = readers.next();
+                try {
+                    reader.setInput(stream, true, true);
+                    return new int[] { reader.getWidth(0), reader.getHeight(0) };
+                } finally {
+                    reader.dispose();
+                }
+            }
+        } catch (IOException e) {
+            // Fall back to decoding the image below
+        }
+        Image full = new Image(url.toString());
+        return new int[] { (int) full.getWidth(), (int) full.getHeight() };
+    }
+
+    /**
+     * Finds an image on the classpath.
+     *
+     * @param path The classpath of the image
+     * @return its URL
+     */
+    private static URL resource(String path) {
+        URL url = ClassLoader.getSystemResource(path);
+        if (url == null) {
+            throw new IllegalArgumentException("Missing asset: " + path);
+        }
+        return url;
+    }
+
+    /**
+     * Reads the output scale of the primary screen, 1 on a standard display.
+     *
+     * @return the render scale
+     */
+    private static double detectRenderScale() {
+        try {
+            Screen screen = Screen.getPrimary();
+            return Math.max(1, Math.max(screen.getOutputScaleX(), screen.getOutputScaleY()));
+        } catch (RuntimeException e) {
+            return 1; // No screen, e.g. before the toolkit starts
+        }
+    }
+
+    /**
+     * Sets the render scale, e.g. when the window moves to a screen with another output scale.
+     * Images requested afterwards use the levels for the new scale.
+     *
+     * @param scale The number of device pixels per layout pixel
+     */
+    public static synchronized void setRenderScale(double scale) {
+        renderScale = Math.max(1, scale);
+    }
+
+    // Getter for the render scale
+    public static synchronized double getRenderScale() {
+        return renderScale;
+    }
+
+    // Getter for the number of decoded levels
+    public static synchronized int getLevelCount() {
+        return levels.size();
+    }
+
+    // Getter for the decoded size of all levels
+    public static synchronized long getLevelBytes() {
+        return levelBytes;
+    }
+
+    /**
+     * Returns a summary of the cache.
+     *
+     * @return the render scale, the levels and the counters
+     */
+    public static synchronized String report() {
+        return "SpriteCache[scale=" + renderScale + ", levels=" + levels.size() + ", decoded=" + levelBytes / 1024
+                + "KB, hits=" + hits + ", misses=" + misses + "]";
+    }
+}
@@ -7,16 +7,25 @@ import javafx.scene.layout.BackgroundPosition;
 import javafx.scene.layout.BackgroundRepeat;
 import javafx.scene.layout.BackgroundSize;
 import javafx.scene.layout.Pane;
+import logic.game.ResetGameAble;
+import logic.model.GameWorld;
+import logic.model.TimingWheel;
 
 /**
  * Class representing a table with a default and a served state.
  * The table background can change when it is served.
  */
-public class Table extends Pane {
+public class Table extends Pane implements ResetGameAble {
+    private static final long SERVE_MILLIS = 2000; // How long the served state is shown
+
+    private final int width;
+    private final int height;
     private Background defaultBackground;
     private Image defaultImage;
     private Background serveBackground;
     private Image serveImage;
+    private final Runnable resetTask = this::clearServe;
+    private TimingWheel.Timeout resetTimeout;
 
     /**
      * Constructor to initialize the table with a specified width and height.
@@ -26,10 +35,21 @@ public class Table extends Pane {
      */
     public Table(int width, int height) {
         setPrefSize(width, height);
+        this.width = width;
+        this.height = height;
+        createBackgrounds();
+
+        // Set the default background initially
+        setBackground(defaultBackground);
+    }
 
+    /**
+     * Loads the table images at the current render scale and creates the backgrounds from them.
+     */
+    private void createBackgrounds() {
         // Load images for different table states
-        defaultImage = new Image(ClassLoader.getSystemResource("images/table.png").toString());
-        serveImage = new Image(ClassLoader.getSystemResource("images/tableWithServe.png").toString());
+        defaultImage = SpriteCache.image("images/table.png", width, height);
+        serveImage = SpriteCache.image("images/tableWithServe.png", width, height);
 
         // Create background for default table state
         defaultBackground = new Background(new BackgroundImage(
@@ -48,24 +68,46 @@ public class Table extends Pane {
             BackgroundPosition.CENTER,
             new BackgroundSize(100, 100, true, true, true, false)
         ));
+    }
 
-        // Set the default background initially
+    /**
+     * Gets the table images from SpriteCache again after the render scale changed,
+     * keeping the served state while it is shown.
+     */
+    public void rescale() {
+        createBackgrounds();
+        setBackground(resetTimeout != null ? serveBackground : defaultBackground);
+    }
+
+    /**
+     * Changes the table background to the served state and schedules the reset to the default state.
+     *
+     * @param scheduler The game scheduler that runs the reset
+     */
+    public void serve(TimingWheel scheduler) {
+        setBackground(serveBackground); // Change to served state
+        if (resetTimeout != null) {
+            resetTimeout.cancel(); // A new serve restarts the delay
+        }
+        resetTimeout = scheduler.schedule(GameWorld.ticksFor(SERVE_MILLIS), resetTask);
+    }
+
+    /**
+     * Shows the default table background again.
+     */
+    public void clearServe() {
+        resetTimeout = null;
         setBackground(defaultBackground);
     }
 
     /**
-     * Changes the table background to the served state and resets after a short delay.
+     * Resets the table to its default state.
      */
-    public void serve() {
-        new Thread(() -> {
-            setBackground(serveBackground); // Change to served state
-            try {
-                Thread.sleep(2000); // Wait for 2 seconds to simulate serving process
-            } catch (Exception e) {
-                setBackground(serveBackground); // Keep served state if interrupted
-            } finally {
-                setBackground(defaultBackground); // Reset to default background after serving
-            }
-        }).start();
+    @Override
+    public void reset() {
+        if (resetTimeout != null) {
+            resetTimeout.cancel();
+        }
+        clearServe();
     }
 }
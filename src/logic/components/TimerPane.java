@@ -1,61 +1,160 @@
 package logic.components;
 
+import java.util.Arrays;
+
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.layout.Pane;
 import javafx.scene.paint.Color;
 import javafx.scene.text.Font;
-import javafx.scene.text.Text;
-import logic.game.GameLogic;
+import logic.game.ResetGameAble;
 import logic.game.Timer;
+import logic.model.GameWorld;
 
 /**
  * Class representing the timer display pane.
  * It displays a countdown timer on the screen.
+ * The header and digits are drawn onto a canvas from glyph atlases, and each group of
+ * digits is only redrawn when the remaining time changes its digits.
  */
-public class TimerPane extends Pane {
-    
-    private Text header;
-    private Text timer;
+public class TimerPane extends Pane implements ResetGameAble {
+
+    private static final double WIDTH = 200;
+    private static final double HEIGHT = 80;
+    private static final double HEADER_X = 80;
+    private static final double HEADER_Y = 30; // Baseline of the header
+    private static final double TIMER_X = 30;
+    private static final double TIMER_Y = 65; // Baseline of the timer
+
+    // Glyphs are rasterized once and shared by every TimerPane
+    private static GlyphAtlas headerGlyphs;
+    private static GlyphAtlas timerGlyphs;
+
+    private final Canvas canvas = new Canvas(WIDTH, HEIGHT);
+    private final GraphicsContext gc = canvas.getGraphicsContext2D();
+    private final IntegerProperty remainingCentis = new SimpleIntegerProperty(this, "remainingCentis", -1);
+    private final double[] groupX = new double[3]; // Left edge of the minutes, seconds and hundredths
+    private final int[] shownGroups = { -1, -1, -1 }; // Digits currently drawn in each group
+    private final double groupWidth;
+    private final double digitsTop;
 
     /**
      * Constructor to initialize the TimerPane.
-     * Sets the layout and default texts for the timer and header.
+     * Sets the layout and draws the header and the timer.
      */
     public TimerPane() {
         super();
 
         // Set preferred size for the TimerPane
-        this.setPrefWidth(200);
-        this.setPrefHeight(80);
+        this.setPrefWidth(WIDTH);
+        this.setPrefHeight(HEIGHT);
 
-        // Create and style header and timer text
-        header = new Text(" Timer");
-        timer = new Text("00:00:00");
+        if (headerGlyphs == null) {
+            createGlyphs();
+        }
+
+        // Lay out the timer as "MM:SS:MS", with fixed-width digit groups
+        groupWidth = 2 * timerGlyphs.getMaxWidth();
+        double colonWidth = timerGlyphs.getWidth(':');
+        digitsTop = TIMER_Y - timerGlyphs.getBaseline();
+        double x = TIMER_X;
+        for (int i = 0; i < groupX.length; i++) {
+            groupX[i] = x;
+            x += groupWidth + colonWidth;
+        }
+        drawAll(0);
+
+        // Redraw the digits whenever the displayed time changes
+        remainingCentis.addListener(observable -> showTime(remainingCentis.get()));
+
+        // Add the canvas to the pane
+        this.getChildren().add(canvas);
+    }
 
-        header.setFont(new Font("Comic Sans MS", 25));
-        timer.setFont(new Font("Comic Sans MS", 40));
-        header.setFill(Color.BLACK);
-        timer.setFill(Color.BLACK);
+    // Rasterize the glyphs at the current render scale
+    private static void createGlyphs() {
+        headerGlyphs = new GlyphAtlas(new Font("Comic Sans MS", 25), Color.BLACK, " Timer");
+        timerGlyphs = new GlyphAtlas(new Font("Comic Sans MS", 40), Color.BLACK, "0123456789:");
+    }
 
-        // Position the text on the pane
-        header.setX(80);
-        header.setY(30);
+    /**
+     * Draws the header, the colons and the digits of a remaining time on a cleared canvas.
+     *
+     * @param totalCentis The remaining time in hundredths of a second
+     */
+    private void drawAll(int totalCentis) {
+        gc.clearRect(0, 0, WIDTH, HEIGHT);
+        headerGlyphs.drawString(gc, " Timer", HEADER_X, HEADER_Y - headerGlyphs.getBaseline());
+        for (int i = 0; i < groupX.length - 1; i++) {
+            timerGlyphs.drawChar(gc, ':', groupX[i] + groupWidth, digitsTop);
+        }
+        Arrays.fill(shownGroups, -1);
+        showTime(totalCentis);
+    }
 
-        timer.setX(30);
-        timer.setY(65);
+    /**
+     * Rasterizes the glyphs again at the current render scale and redraws the pane,
+     * called when the window moves to a screen with another output scale. Must be called on the FX thread.
+     */
+    public void rescale() {
+        createGlyphs();
+        drawAll(Math.max(0, remainingCentis.get()));
+    }
 
-        // Start the countdown timer from GameLogic
-        GameLogic.startCountDownTimer();
+    /**
+     * Shows a remaining time, redrawing only the groups of digits that differ.
+     *
+     * @param totalCentis The remaining time in hundredths of a second
+     */
+    private void showTime(int totalCentis) {
+        int totalSeconds = totalCentis / 100;
+        showGroup(0, totalSeconds / 60);
+        showGroup(1, totalSeconds % 60);
+        showGroup(2, totalCentis % 100);
+    }
 
-        // Add the text elements to the pane
-        this.getChildren().addAll(header, timer);
+    /**
+     * Redraws one group of two digits if its value changed.
+     *
+     * @param group The group: 0 for minutes, 1 for seconds, 2 for hundredths
+     * @param value The value to show, from 0 to 99
+     */
+    private void showGroup(int group, int value) {
+        if (shownGroups[group] == value) {
+            return;
+        }
+        shownGroups[group] = value;
+        gc.clearRect(groupX[group], digitsTop, groupWidth, timerGlyphs.getHeight());
+        timerGlyphs.drawFixed(gc, HudText.twoDigits(value), groupX[group], digitsTop);
     }
 
     /**
-     * Updates the timer text based on the given Timer object.
+     * Updates the timer display from the given Timer object.
+     * Nothing is redrawn if the displayed hundredths have not changed.
      *
-     * @param t The Timer object whose string representation will be shown.
+     * @param t The Timer object whose remaining time will be shown.
      */
     public void setTimer(Timer t) {
-        timer.setText(t.toString());
+        remainingCentis.set(t.getRemainingCentis());
+    }
+
+    /**
+     * Shows the full length of the next round until its countdown is first read.
+     */
+    @Override
+    public void reset() {
+        remainingCentis.set(GameWorld.ROUND_MILLIS / 10);
+    }
+
+    /**
+     * Returns the displayed remaining time as an observable number of hundredths of a second.
+     *
+     * @return the remaining time property
+     */
+    public ReadOnlyIntegerProperty remainingCentisProperty() {
+        return remainingCentis;
     }
 }
@@ -7,13 +7,16 @@ import javafx.scene.layout.BackgroundPosition;
 import javafx.scene.layout.BackgroundRepeat;
 import javafx.scene.layout.BackgroundSize;
 import javafx.scene.layout.Pane;
+import logic.game.ResetGameAble;
 
 /**
  * Class representing the trash bin display pane.
  * It displays an image of a trash bin.
  */
-public class Trash extends Pane {
+public class Trash extends Pane implements ResetGameAble {
     
+    private final int width;
+    private final int height;
     private Background defaultBackground;
 
     /**
@@ -25,9 +28,20 @@ public class Trash extends Pane {
      */
     public Trash(int width, int height) {
         setPrefSize(width, height);
-        
+        this.width = width;
+        this.height = height;
+        createBackground();
+
+        // Set the trash bin image as the background
+        setBackground(defaultBackground);
+    }
+
+    /**
+     * Loads the trash bin image at the current render scale and creates the background from it.
+     */
+    private void createBackground() {
         // Load the image for the trash bin
-        Image defaultImage = new Image(ClassLoader.getSystemResource("images/trashBin.png").toString());
+        Image defaultImage = SpriteCache.image("images/trashBin.png", width, height);
 
         // Create a background using the trash bin image
         defaultBackground = new Background(new BackgroundImage(
@@ -37,8 +51,21 @@ public class Trash extends Pane {
                 BackgroundPosition.CENTER,
                 new BackgroundSize(100, 100, true, true, true, false)
         ));
+    }
 
-        // Set the trash bin image as the background
+    /**
+     * Gets the trash bin image from SpriteCache again after the render scale changed.
+     */
+    public void rescale() {
+        createBackground();
+        setBackground(defaultBackground);
+    }
+
+    /**
+     * Shows the default trash bin again.
+     */
+    @Override
+    public void reset() {
         setBackground(defaultBackground);
     }
 }
@@ -1,30 +1,39 @@
 package logic.components;
 
-import javafx.application.Platform;
 import javafx.scene.control.ProgressIndicator;
 import javafx.scene.layout.AnchorPane;
 import javafx.scene.media.Media;
 import javafx.scene.media.MediaPlayer;
 import javafx.scene.media.MediaView;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+import javafx.util.Duration;
 
+/**
+ * The tutorial screen, which plays the tutorial video in a loop.
+ * The video is only opened when the screen is shown: a loading indicator is displayed
+ * while the player prepares in the background, and the video starts once it is ready.
+ * Leaving the screen disposes the player, so it stops using decoder resources.
+ */
 public class Tutorial extends AnchorPane {
 
     private final String TUTORIAL_VIDEO_PATH = "images/tutorial.mp4";
     private MediaView mediaView;
     private MediaPlayer mediaPlayer;
-    private Media media;
     private ProgressIndicator loadingIndicator;
+    private Text errorText;
 
     public Tutorial() {
         super();
         initializeLoadingIndicator(); // เพิ่มตัวหมุนรอ
-        loadMedia(); // โหลดวิดีโอ
         initializeHomeButton(); // เพิ่มปุ่ม Home
     }
 
     private void initializeLoadingIndicator() {
         loadingIndicator = new ProgressIndicator();
         loadingIndicator.setPrefSize(100, 100);
+        loadingIndicator.setVisible(false);
 
         // ใช้ AnchorPane.setTopAnchor กับ AnchorPane.setLeftAnchor เพื่อให้อยู่กลางหน้าจอ
         AnchorPane.setTopAnchor(loadingIndicator, 310.0); 
@@ -32,28 +41,95 @@ public class Tutorial extends AnchorPane {
         getChildren().add(loadingIndicator);
     }
 
+    /**
+     * Starts the tutorial from the beginning.
+     * The first time, or after the screen was left, the video is opened and plays once it is ready;
+     * this never blocks the FX thread.
+     */
+    public void play() {
+        if (mediaPlayer == null) {
+            loadMedia();
+        } else if (mediaPlayer.getStatus() != MediaPlayer.Status.UNKNOWN) {
+            startFromBeginning();
+        }
+    }
+
+    /**
+     * Opens the video. The player prepares in the background and reports back through its callbacks.
+     */
     private void loadMedia() {
-        // ใช้ Platform.runLater เพื่อให้ UI ปรากฏก่อน
-        Platform.runLater(() -> {
-            media = new Media(ClassLoader.getSystemResource(TUTORIAL_VIDEO_PATH).toString());
-            mediaPlayer = new MediaPlayer(media);
-            mediaView = new MediaView(mediaPlayer);
+        hideError();
+        loadingIndicator.setVisible(true);
+
+        Media media = new Media(ClassLoader.getSystemResource(TUTORIAL_VIDEO_PATH).toString());
+        MediaPlayer player = new MediaPlayer(media);
+        mediaPlayer = player;
 
+        player.setOnReady(() -> {
+            if (mediaPlayer != player) {
+                return; // The screen was left while the video was loading
+            }
+            mediaView = new MediaView(player);
             mediaView.setFitWidth(1000);
             mediaView.setFitHeight(720);
+            getChildren().add(mediaView);
+            mediaView.toBack();
+            loadingIndicator.setVisible(false); // เอาตัวหมุนออกเมื่อโหลดเสร็จ
+            startFromBeginning();
+        });
 
-            mediaPlayer.setOnReady(() -> {
-                getChildren().add(mediaView);
-                mediaView.toBack();
-                getChildren().remove(loadingIndicator); // เอาตัวหมุนออกเมื่อโหลดเสร็จ
-            });
-
-            mediaPlayer.setOnError(() -> {
-                loadMedia();
-            });
+        player.setOnError(() -> {
+            if (mediaPlayer != player) {
+                return;
+            }
+            close(); // Release the broken player, the next visit tries again
+            showError();
         });
     }
 
+    /**
+     * Plays the video in a loop from the beginning.
+     */
+    private void startFromBeginning() {
+        mediaPlayer.stop();
+        mediaPlayer.seek(Duration.ZERO); // play clip from the begining
+        mediaPlayer.setCycleCount(MediaPlayer.INDEFINITE); // loop
+        mediaPlayer.play();
+    }
+
+    /**
+     * Stops the video and releases the player and its decoder, called when the screen is left.
+     */
+    public void close() {
+        if (mediaPlayer != null) {
+            mediaPlayer.dispose();
+            mediaPlayer = null;
+        }
+        if (mediaView != null) {
+            getChildren().remove(mediaView);
+            mediaView = null;
+        }
+        loadingIndicator.setVisible(false);
+    }
+
+    private void showError() {
+        if (errorText == null) {
+            errorText = new Text("Could not load the tutorial video");
+            errorText.setFont(new Font("Comic Sans MS", 30));
+            errorText.setFill(Color.WHITE);
+            AnchorPane.setTopAnchor(errorText, 340.0);
+            AnchorPane.setLeftAnchor(errorText, 280.0);
+            getChildren().add(errorText);
+        }
+        errorText.setVisible(true);
+    }
+
+    private void hideError() {
+        if (errorText != null) {
+            errorText.setVisible(false);
+        }
+    }
+
     private void initializeHomeButton() {
         Home homeButton = new Home();
 
@@ -65,11 +141,13 @@ public class Tutorial extends AnchorPane {
         homeButton.toFront();
     }
 
+    // Returns whether the video is being opened and not ready yet
+    public boolean isLoading() {
+        return mediaPlayer != null && mediaView == null;
+    }
+
+    // Returns the player, or null while the tutorial is not shown
     public MediaPlayer getMediaPlayer() {
-        if (mediaPlayer == null) {
-            initializeLoadingIndicator(); // แสดงตัวหมุนระหว่างโหลด
-            //loadMedia(); // โหลดใหม่
-        }
         return mediaPlayer;
     }
 }
@@ -1,239 +1,457 @@
 package logic.components;
 
 import java.util.ArrayList;
-import javafx.application.Platform;
-import javafx.scene.canvas.Canvas;
+import java.util.Random;
 import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.image.Image;
-import javafx.scene.media.AudioClip;
-import logic.game.SceneController;
+import javafx.scene.layout.Pane;
 import logic.game.GameLogic;
+import logic.game.GameLoop;
+import logic.game.InputLatencyMonitor;
 import logic.game.KeyboardController;
+import logic.game.ResetGameAble;
+import logic.game.SceneController;
+import logic.game.Timer;
+import logic.game.UpdateGameAble;
+import logic.model.BombModel;
+import logic.model.CroissantModel;
+import logic.model.GameInput;
+import logic.model.GameWorld;
+import logic.model.GameWorldListener;
+import logic.model.InputSnapshot;
 
 /**
  * The WalkGround class represents the area where the croissant moves
  * and interacts with various game elements like the oven, trash, and bombs.
- * It handles movement, serving, and bomb interactions for the croissant.
+ * The rules are simulated by a GameWorld; this canvas feeds it keyboard input,
+ * draws it, and plays the images and sounds for what happens in it.
+ * It is drawn on a stack of canvas layers: the walking area at the bottom, drawn once,
+ * the croissant above it and the bombs on top, so a bomb covers the croissant as it always has. A layer is drawn again only where it changed:
+ * where the croissant was and is, and where bombs spawned, expired or changed frame.
  */
-public class WalkGround extends Canvas {
+public class WalkGround extends Pane implements UpdateGameAble, GameWorldListener, ResetGameAble {
 
-    private final Image walkingArea;
+    private final Timer countdown; // Countdown of the round on the world's clock
+    private SpriteAtlas sprites; // Walking area, croissants and bomb frames in one texture
+    private final int walkingArea; // Id of the walking area sprite
+    private final SpriteAnimation bombAnimation; // One animation clock shared by every bomb
+    private final GameWorld world;
     private Croissant croissant;
     private OvenArea oven;
-    private ArrayList<Bomb> bombs;
+    private final ArrayList<Bomb> bombs; // Views of the world's bombs, in the same order
     private Trash bin;
     private Table serveTable;
-    private int bombNum;
-    private int bombSpawnRate;
-    private AudioClip bombSound;
     private KeyboardController keyboardController;
-    private final static double SIZE = 440; // Size of the walking area
-    private static final double SERVE_AREA_X_MIN = 39;
-    private static final double SERVE_AREA_X_MAX = 340;
-    private static final double SERVE_AREA_Y_MIN = 350;
-    private static final double TRASH_AREA_X_MIN = 350;
-    private static final double TRASH_AREA_Y_MIN = 110;
-    private static final double TRASH_AREA_Y_MAX = 300;
+    private GameLoop gameLoop;
+    private final InputLatencyMonitor latencyMonitor = new InputLatencyMonitor();
+    private static final int MOVE_KEYS = GameInput.UP | GameInput.DOWN | GameInput.LEFT | GameInput.RIGHT;
+    final static int SIZE = 440; // Size of the walking area
+    private static final int CROISSANT_WIDTH = CroissantModel.WIDTH;
+    private static final int CROISSANT_HEIGHT = CroissantModel.HEIGHT;
+    private static final int BOMB_SIZE = BombModel.WIDTH;
+
+    // Layers from bottom to top, and what the croissant looked like when last drawn
+    private final CanvasLayer backgroundLayer = new CanvasLayer("background", SIZE, SIZE);
+    private final CanvasLayer croissantLayer = new CanvasLayer("croissant", SIZE, SIZE);
+    private final CanvasLayer bombLayer = new CanvasLayer("bombs", SIZE, SIZE);
+    private final CanvasLayer[] layers = { backgroundLayer, croissantLayer, bombLayer }; // Bottom to top
+    private Croissant shownCroissant;
+    private boolean shownVisible;
+    private int shownX, shownY, shownSprite;
+
+    // A frame is drawn only when the world changed or a bomb changes frame
+    private long drawnGeneration = -1; // World generation of the last drawn frame, -1 to force a frame
+    private long nextAnimationMillis; // When the next bomb changes frame
+
+    // Frames drawn and skipped, and the pixels full repaints of every frame would have filled
+    private long framesDrawn;
+    private long framesSkipped;
+    private long fullFramePixels;
 
     /**
      * Constructor initializes the walking area with specific game components.
-     * It sets up the croissant, oven, bomb list, trash bin, and the serve table.
-     * It also manages bomb spawning and movement handling.
+     * It creates the game world, the views for its croissant and bombs,
+     * and starts the game loop.
      *
      * @param keyboardController The controller that listens to keyboard input.
      */
     public WalkGround(KeyboardController keyboardController) {
-        super(SIZE, SIZE);
+        setPrefSize(SIZE, SIZE);
+        setMinSize(SIZE, SIZE);
+        setMaxSize(SIZE, SIZE);
+        getChildren().addAll(layers);
         this.keyboardController = keyboardController;
-        walkingArea = new Image(ClassLoader.getSystemResource("images/walkingArea.png").toString());
+        sprites = GameSprites.getAtlas();
+        walkingArea = GameSprites.getWalkingArea();
+        bombAnimation = GameSprites.createBombAnimation();
+        bombAnimation.setTime(animationMillis());
         bombs = new ArrayList<>();
-        croissant = CroissantFactory.createRandomCroissant();
         oven = GameCanvas.getOvenArea();
         bin = GameCanvas.getBin();
         serveTable = GameCanvas.getTable();
-        bombSound = new AudioClip(ClassLoader.getSystemResource("sounds/tomatoSquish.mp3").toString());
+
+        // Bomb number and spawn rate depend on difficulty
+        world = new GameWorld(ControlPane.isHard, GameLogic.getScore(), new Random());
+        world.setListener(this);
+        croissant = CroissantFactory.createCroissant(world.getCroissant());
+        countdown = new Timer(world.getClock(), GameWorld.ROUND_MILLIS); // The HUD shows the world's own time
+        GameLogic.startCountDownTimer(countdown);
 
         this.setFocusTraversable(true);
         this.requestFocus();
-        setUpMove();
-        goToTrash();
-        serveToCustomer();
-        updateCanvas(getGraphicsContext2D());
-        
-        // Set bomb number based on difficulty
-        bombNum = ControlPane.isHard ? 5 : 2;
-        bombSpawnRate = ControlPane.isHard ? 2000 : 4000;
-        spawnBombPeriodically();
+
+        gameLoop = new GameLoop(this, GameLogic.getClock());
+        startLoop();
     }
 
     /**
-     * This method handles serving the croissant to the customer.
-     * The croissant is served when it is in the serving area and the E key is pressed.
-     * If the croissant's state is perfect, it adds to the score; if burned or raw, it reduces the score.
+     * Starts a new round on this walking area without building it again.
+     * The world is reset with the difficulty chosen on the menu, the views of the old
+     * round are dropped, and the game loop is started from its first frame.
      */
-    public void serveToCustomer() {
-        new Thread(() -> {
-            while (!SceneController.isGameEnded()) {
-                try {
-                    if (this.croissant.getY() >= SERVE_AREA_Y_MIN  && this.croissant.getX() >= SERVE_AREA_X_MIN
-                            && this.croissant.getX() <= SERVE_AREA_X_MAX  && keyboardController.isRPressed()) {
-                        serveTable.serve();
-                        
-                        // Update score based on croissant state
-                        if (this.croissant.getState() == State.PERFECT) {
-                            GameLogic.setScore(new Score(GameLogic.getScore().getScore() + this.croissant.getBaseScore()));
-                        } else if (this.croissant.getState() == State.BURN) {
-                            GameLogic.setScore(new Score(GameLogic.getScore().getScore() - 150));
-                        } else {
-                            GameLogic.setScore(new Score(GameLogic.getScore().getScore() - 100));
-                        }
-
-                        GameLogic.getScore().toString();
-                        this.croissant = CroissantFactory.createRandomCroissant();
-                    }
+    @Override
+    public void reset() {
+        stopLoop();
+        world.setHard(ControlPane.isHard);
+        world.reset();
+        GameLogic.startCountDownTimer(countdown); // From the world's clock, now back at zero
+        bombs.clear();
+        croissant = CroissantFactory.createCroissant(world.getCroissant());
+        keyboardController.reset();
+        latencyMonitor.reset();
+        gameLoop.reset();
+        bombAnimation.setTime(animationMillis());
+        bombLayer.invalidateAll(); // The bombs of the old round are gone
+        croissantLayer.invalidateAll();
+        for (CanvasLayer layer : layers) {
+            layer.resetStats();
+        }
+        shownCroissant = null;
+        drawnGeneration = -1;
+        framesDrawn = 0;
+        framesSkipped = 0;
+        fullFramePixels = 0;
 
-                    Thread.sleep(100);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                }
-            }
-        }).start();
+        this.requestFocus();
+        startLoop();
     }
 
     /**
-     * This method handles the action of throwing the croissant in the trash.
-     * The croissant is discarded when it reaches the trash area and the E key is pressed.
+     * Starts the game loop. The UI dispatcher leaves updates posted on the JavaFX thread
+     * to the flush at the end of each frame while the loop runs.
      */
-    public void goToTrash() {
-        new Thread(() -> {
-            while (!SceneController.isGameEnded()) {
-                try {
-                    if (this.croissant.getX() >= TRASH_AREA_X_MIN && this.croissant.getY() >= TRASH_AREA_Y_MIN
-                            && this.croissant.getY() <= TRASH_AREA_Y_MAX && keyboardController.isFPressed()) {
-                        this.croissant = CroissantFactory.createRandomCroissant();
-                    }
+    private void startLoop() {
+        GameLogic.getSession().own(this::stopLoop); // The loop stops when the round ends
+        GameLogic.getUiDispatcher().setFlushedEveryFrame(true);
+        gameLoop.start();
+    }
 
-                    Thread.sleep(100);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                }
-            }
-        }).start();
+    // Stops the game loop, the UI dispatcher schedules its own flushes again
+    private void stopLoop() {
+        gameLoop.stop();
+        GameLogic.getUiDispatcher().setFlushedEveryFrame(false);
     }
 
     /**
-     * This method sets up the movement of the croissant using keyboard inputs.
-     * The croissant moves based on the arrow keys and interacts with the oven area and bombs.
+     * Runs one fixed simulation step with the key events that arrived since the last step.
+     * A movement key press that moves the croissant is handed to the latency monitor.
      */
-    public void setUpMove() {
-        new Thread(() -> {
-            int dirUD, dirLR;
-            while (!SceneController.isGameEnded()) {
-                try {
-                    dirLR = 0;
-                    dirUD = 0;
-
-                    // Movement based on keyboard input
-                    if (keyboardController.isUpPressed()) {
-                        dirUD = -1;
-                    } else if (keyboardController.isDownPressed()) {
-                        dirUD = 1;
-                    }
-                    if (keyboardController.isLeftPressed()) {
-                        dirLR = -1;
-                    } else if (keyboardController.isRightPressed()) {
-                        dirLR = 1;
-                    }
+    @Override
+    public void update() {
+        InputSnapshot input = keyboardController.takeSnapshot();
+        CroissantModel moving = world.getCroissant();
+        int x = moving.getX();
+        int y = moving.getY();
+
+        world.step(input);
 
-                    final int dirlr = dirLR;
-                    final int dirud = dirUD;
-                    Platform.runLater(() -> {
-                        // Check for collision with bombs
-                        for (int i = 0; i < bombs.size(); i++) {
-                            if (bombs.get(i) != null && bombs.get(i).checkCollision(croissant)) {
-                                croissant.setState(State.BURN); // Make croissant burn
-                                bombSound.play();
-                                bombs.remove(i); // Remove bomb
-                            }
-                        }
-
-                        croissant.move(dirlr, dirud);
-
-                        // Handle interactions with the oven
-                        if (keyboardController.isQPressed() && croissant.isInOvenArea() && oven.isOccupied()) {
-                            oven.removeCroissant();
-                            croissant.setInOvenArea(false);
-                        }
-
-                        if (keyboardController.isEPressed() && !oven.isOccupied() && croissant.checkInOvenArea()
-                                && croissant.getState() == State.RAW) {
-                            oven.addCroissant(croissant);
-                        }
-                    });
-
-                    Thread.sleep(30);
-                } catch (InterruptedException e) {
-                    e.printStackTrace();
+        int movePresses = input.getPressed() & MOVE_KEYS;
+        if (movePresses != GameInput.NONE && (moving.getX() != x || moving.getY() != y)) {
+            for (int key = GameInput.UP; key <= GameInput.RIGHT; key <<= 1) {
+                if ((movePresses & key) != 0) {
+                    latencyMonitor.effectApplied(key, keyboardController.getPressTime(key));
                 }
             }
-        }).start();
+        }
     }
 
     /**
-     * This method updates the canvas by drawing the background, croissant, and bombs.
-     * It runs in a separate thread and refreshes the display every 30 milliseconds.
+     * Draws the current frame of the walking area, refreshes the countdown
+     * and applies the UI updates posted during this frame as one batch.
+     * The walking area is only drawn when the world changed since the last drawn frame
+     * or a bomb's animation reached its next frame; otherwise the frame is skipped.
+     */
+    @Override
+    public void render() {
+        boolean croissantVisible = !world.getOven().isOccupied();
+        fullFramePixels += SIZE * SIZE + bombs.size() * BOMB_SIZE * BOMB_SIZE
+                + (croissantVisible ? CROISSANT_WIDTH * CROISSANT_HEIGHT : 0);
+        if (world.getGeneration() != drawnGeneration || animationMillis() >= nextAnimationMillis) {
+            drawnGeneration = world.getGeneration();
+            updateCanvas(backgroundLayer.getGraphicsContext2D());
+            latencyMonitor.frameRendered(GameLogic.getClock().nanoTime());
+            framesDrawn++;
+        } else {
+            framesSkipped++;
+        }
+        GameLogic.updateCountDownTimer();
+        GameLogic.getUiDispatcher().flush();
+    }
+
+    /**
+     * This method updates the layers of the walking area. The background layer is drawn
+     * once; the croissant and bomb layers are drawn again only where they changed.
+     * The graphics context is the one of the background layer.
      *
      * @param gc The GraphicsContext to draw on.
      */
     public void updateCanvas(GraphicsContext gc) {
-        new Thread(() -> {
-            while (!SceneController.isGameEnded()) {
-                try {
-                    Platform.runLater(() -> {
-                        gc.clearRect(0, 0, SIZE, SIZE);
-                        gc.drawImage(walkingArea, 0, 0, SIZE, SIZE);
-                        if (!oven.isOccupied()) {
-                            croissant.render(gc);
-                        }
-                        // Render bombs if they haven't exploded
-                        for (int i = 0; i < bombs.size(); i++) {
-                            bombs.get(i).render(gc);
-                        }
-                    });
-
-                    Thread.sleep(30);
-                } catch (InterruptedException e) {
-                    e.printStackTrace();
-                }
+        boolean croissantVisible = !world.getOven().isOccupied();
+        // Advance the bombs' shared animation clock once
+        long now = animationMillis();
+        bombAnimation.setTime(now);
+        markChanges(croissantVisible, now);
+
+        if (backgroundLayer.isInvalid()) {
+            backgroundLayer.clearInvalid();
+            sprites.draw(gc, walkingArea, 0, 0, SIZE, SIZE);
+            backgroundLayer.addFilled(SIZE * SIZE);
+            backgroundLayer.validate();
+        }
+        if (croissantLayer.isInvalid()) {
+            croissantLayer.clearInvalid();
+            if (croissantVisible) {
+                croissant.render(croissantLayer.getGraphicsContext2D());
+                croissantLayer.addFilled(CROISSANT_WIDTH * CROISSANT_HEIGHT);
             }
-        }).start();
+            croissantLayer.validate();
+        }
+        if (bombLayer.isInvalid()) {
+            drawBombs();
+        }
     }
 
     /**
-     * This method spawns bombs at a periodic interval.
-     * The bomb spawn rate is faster in hard mode.
+     * Marks the parts of the sprite layers that changed since the last frame:
+     * the old and new place of the croissant if it moved, changed image or was replaced,
+     * and every bomb whose animation frame changed or that was just spawned.
+     *
+     * It also finds when the next bomb changes frame.
+     *
+     * @param croissantVisible Whether the croissant is shown, it is hidden while in the oven
+     * @param now              The time of the bomb animation in milliseconds
      */
-    private void spawnBombPeriodically() {
-        new Thread(() -> {
-            while (!SceneController.isGameEnded()) {
-                try {
-                    Platform.runLater(() -> {
-                        bombs.add(new Bomb());
-                    });
-
-                    // Bomb spawn rate based on difficulty
-                        Thread.sleep(bombSpawnRate);
-
-                    // Remove bombs if the number exceeds the limit
-                    if (bombs.size() >= bombNum) {
-                        Platform.runLater(() -> {
-                            bombs.remove(0);
-                        });
+    private void markChanges(boolean croissantVisible, long now) {
+        croissant.syncState();
+        int x = croissant.getX();
+        int y = croissant.getY();
+        int sprite = croissant.getSprite();
+        if (croissant != shownCroissant || croissantVisible != shownVisible
+                || x != shownX || y != shownY || sprite != shownSprite) {
+            if (shownVisible) {
+                croissantLayer.invalidate(shownX, shownY, CROISSANT_WIDTH, CROISSANT_HEIGHT);
+            }
+            if (croissantVisible) {
+                croissantLayer.invalidate(x, y, CROISSANT_WIDTH, CROISSANT_HEIGHT);
+            }
+            shownCroissant = croissant;
+            shownVisible = croissantVisible;
+            shownX = x;
+            shownY = y;
+            shownSprite = sprite;
+        }
+        long untilNext = Long.MAX_VALUE;
+        for (int i = 0; i < bombs.size(); i++) {
+            Bomb bomb = bombs.get(i);
+            if (bomb.updateFrame(bombAnimation)) {
+                bombLayer.invalidate(bomb.getX(), bomb.getY(), BOMB_SIZE, BOMB_SIZE);
+            }
+            untilNext = Math.min(untilNext, bombAnimation.millisUntilNextFrame(bomb.getPhase()));
+        }
+        nextAnimationMillis = (untilNext == Long.MAX_VALUE) ? Long.MAX_VALUE : now + untilNext;
+    }
+
+    /**
+     * Draws the invalid parts of the bomb layer again: each rectangle is cleared and the
+     * bombs that overlap it are drawn, clipped to the rectangle.
+     */
+    private void drawBombs() {
+        GraphicsContext gc = bombLayer.getGraphicsContext2D();
+        DirtyRegion dirty = bombLayer.getDirtyRegion();
+        bombLayer.clearInvalid();
+        if (dirty.isFull()) {
+            for (int i = 0; i < bombs.size(); i++) {
+                bombs.get(i).render(gc, sprites, bombAnimation);
+            }
+            bombLayer.addFilled(bombs.size() * BOMB_SIZE * BOMB_SIZE);
+        } else {
+            for (int r = 0; r < dirty.getCount(); r++) {
+                int x = dirty.getX(r);
+                int y = dirty.getY(r);
+                int w = dirty.getWidth(r);
+                int h = dirty.getHeight(r);
+                gc.save();
+                gc.beginPath();
+                gc.rect(x, y, w, h);
+                gc.clip();
+                for (int i = 0; i < bombs.size(); i++) {
+                    Bomb bomb = bombs.get(i);
+                    int area = overlap(x, y, w, h, bomb.getX(), bomb.getY(), BOMB_SIZE, BOMB_SIZE);
+                    if (area > 0) {
+                        bomb.render(gc, sprites, bombAnimation);
+                        bombLayer.addFilled(area);
                     }
-                } catch (InterruptedException e) {
-                    e.printStackTrace();
                 }
+                gc.restore();
             }
-        }).start();
+        }
+        bombLayer.validate();
+    }
+
+    /**
+     * Computes the area two rectangles share.
+     *
+     * @return the number of shared pixels, 0 if they do not overlap
+     */
+    private static int overlap(int x1, int y1, int w1, int h1, int x2, int y2, int w2, int h2) {
+        int w = Math.min(x1 + w1, x2 + w2) - Math.max(x1, x2);
+        int h = Math.min(y1 + h1, y2 + h2) - Math.max(y1, y2);
+        return (w > 0 && h > 0) ? w * h : 0;
+    }
+
+    /**
+     * Returns the report of the round, one line each for input latency, UI updates,
+     * asset loading, sprites, sound, the session's threads and rendering.
+     *
+     * @return the report of the round
+     */
+    public String roundReport() {
+        return String.join(System.lineSeparator(), latencyMonitor.report(), GameLogic.getUiDispatcher().toString(),
+                AssetCache.report(), SpriteCache.report(), AudioEngine.report(),
+                String.valueOf(GameLogic.getSession()), renderReport());
+    }
+
+    /**
+     * Returns how many frames were drawn and skipped, and how many pixels each layer
+     * filled per frame, compared with a full repaint of the walking area on every frame.
+     *
+     * @return the frame counts and the mean pixels filled per frame by each layer and in total
+     */
+    public String renderReport() {
+        long frames = Math.max(1, framesDrawn + framesSkipped);
+        long filled = 0;
+        StringBuilder report = new StringBuilder("WalkGround[drawn=").append(framesDrawn)
+                .append(", skipped=").append(framesSkipped)
+                .append(String.format(", skipped/drawn=%.2f", (double) framesSkipped / Math.max(1, framesDrawn)));
+        for (CanvasLayer layer : layers) {
+            filled += layer.getFilledPixels();
+            report.append(", ").append(layer.getName()).append('=').append(layer.getFilledPixels() / frames)
+                    .append("px/frame in ").append(layer.getRedraws()).append(" redraws");
+        }
+        return report.append(", total=").append(filled / frames)
+                .append("px/frame, full repaint=").append(fullFramePixels / frames)
+                .append(String.format("px/frame, filled=%.1f%%]", fullFramePixels == 0 ? 0 : 100.0 * filled / fullFramePixels))
+                .toString();
+    }
+
+    // Current time of the sprite animations in milliseconds
+    private static long animationMillis() {
+        return GameLogic.getClock().nanoTime() / 1_000_000L;
+    }
+
+    @Override
+    public void croissantSpawned(CroissantModel model) {
+        croissant = CroissantFactory.createCroissant(model);
+    }
+
+    @Override
+    public void bakeStarted(CroissantModel model) {
+        oven.setBaking(true);
+        latencyMonitor.effectApplied(GameInput.BAKE, keyboardController.getPressTime(GameInput.BAKE));
+    }
+
+    @Override
+    public void croissantTakenOut(CroissantModel model) {
+        oven.takeOut();
+        latencyMonitor.effectApplied(GameInput.TAKE_OUT, keyboardController.getPressTime(GameInput.TAKE_OUT));
+    }
+
+    @Override
+    public void croissantServed(CroissantModel model, int points) {
+        serveTable.serve(world.getScheduler());
+        GameLogic.updateScoreBoard();
+        latencyMonitor.effectApplied(GameInput.SERVE, keyboardController.getPressTime(GameInput.SERVE));
+    }
+
+    @Override
+    public void croissantTrashed(CroissantModel model) {
+        latencyMonitor.effectApplied(GameInput.TRASH, keyboardController.getPressTime(GameInput.TRASH));
+    }
+
+    @Override
+    public void bombSpawned(BombModel model) {
+        bombAnimation.setTime(animationMillis());
+        bombs.add(new Bomb(model, bombAnimation));
+    }
+
+    @Override
+    public void bombHit(BombModel model) {
+        AudioEngine.play(SoundEffect.SQUISH);
+    }
+
+    @Override
+    public void roundOver() {
+        SceneController.createEndScene(); // The round ends on the world's own clock
+    }
+
+    @Override
+    public void bombRemoved(BombModel model) {
+        bombLayer.invalidate(model.getX(), model.getY(), BOMB_SIZE, BOMB_SIZE);
+        // The views are in the world's order, so swap the same way the world did
+        Bomb last = bombs.remove(bombs.size() - 1);
+        if (model.getIndex() < bombs.size()) {
+            bombs.set(model.getIndex(), last);
+        }
+    }
+
+    /**
+     * Draws the walking area from another atlas, e.g. one built for a new render scale.
+     * Every layer is drawn again in full on the next frame.
+     *
+     * @param sprites The atlas to draw from
+     */
+    public void setAtlas(SpriteAtlas sprites) {
+        this.sprites = sprites;
+        croissant.setAtlas(sprites);
+        for (CanvasLayer layer : layers) {
+            layer.invalidateAll();
+        }
+        drawnGeneration = -1; // Do not skip the next frame
+    }
+
+    /**
+     * Returns the game world simulated on this walking area.
+     *
+     * @return the game world
+     */
+    public GameWorld getWorld() {
+        return world;
+    }
+
+    /**
+     * Returns the monitor of input-to-display latency on this walking area.
+     *
+     * @return the latency monitor
+     */
+    public InputLatencyMonitor getLatencyMonitor() {
+        return latencyMonitor;
+    }
+
+    /**
+     * Returns the game loop driving this walking area.
+     *
+     * @return the game loop
+     */
+    public GameLoop getGameLoop() {
+        return gameLoop;
     }
 }
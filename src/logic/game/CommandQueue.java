@@ -0,0 +1,100 @@
+package logic.game;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free multi-producer/single-consumer ring buffer of timestamped int commands.
+ * Any thread can offer a command without blocking or allocating; one consumer thread
+ * polls them in order. Each slot carries a sequence number that tells producers when the
+ * slot is free and the consumer when the command in it has been written.
+ */
+public class CommandQueue {
+
+    private final int[] commands;
+    private final long[] times;
+    private final AtomicLongArray sequences; // Sequence number of the write or read each slot waits for
+    private final int mask;
+
+    private final AtomicLong tail = new AtomicLong(); // Next command to write, claimed by the producers
+    private final AtomicLong dropped = new AtomicLong();
+    private long head; // Next command to read, used by the consumer only
+    private int lastCommand;
+    private long lastTime;
+
+    /**
+     * Creates a queue that holds at least the given number of commands.
+     *
+     * @param capacity the minimum number of commands, rounded up to a power of two
+     */
+    public CommandQueue(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.commands = new int[size];
+        this.times = new long[size];
+        this.sequences = new AtomicLongArray(size);
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Adds a command. Can be called from any thread.
+     * When the queue is full the command is dropped and counted, the producer never waits.
+     *
+     * @param command the command to add
+     * @param time    the time the command was issued, in nanoseconds
+     * @return true if the command was added, false if it was dropped
+     */
+    public boolean offer(int command, long time) {
+        while (true) {
+            long t = tail.get();
+            int index = (int) (t & mask);
+            long sequence = sequences.get(index);
+            if (sequence == t) {
+                if (tail.compareAndSet(t, t + 1)) {
+                    commands[index] = command;
+                    times[index] = time;
+                    sequences.lazySet(index, t + 1); // Publish the command after it is written
+                    return true;
+                }
+            } else if (sequence < t) {
+                dropped.incrementAndGet(); // The consumer has not freed this slot yet
+                return false;
+            }
+            // Another producer claimed the slot first, try the next one
+        }
+    }
+
+    /**
+     * Takes the next command, read afterwards with getCommand() and getTime(). Called by the consumer only.
+     *
+     * @return true if a command was taken, false if the queue is empty
+     */
+    public boolean poll() {
+        int index = (int) (head & mask);
+        if (sequences.get(index) != head + 1) {
+            return false;
+        }
+        lastCommand = commands[index];
+        lastTime = times[index];
+        sequences.lazySet(index, head + mask + 1); // Free the slot for the write one lap later
+        head++;
+        return true;
+    }
+
+    // Getter for the command taken by the last successful poll()
+    public int getCommand() {
+        return lastCommand;
+    }
+
+    // Getter for the time of the command taken by the last successful poll()
+    public long getTime() {
+        return lastTime;
+    }
+
+    // Getter for the number of commands dropped because the queue was full
+    public long getDropped() {
+        return dropped.get();
+    }
+}
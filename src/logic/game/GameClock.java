@@ -0,0 +1,17 @@
+package logic.game;
+
+/**
+ * Interface for the source of time used by the game.
+ * Everything that measures time reads it from a GameClock instead of the system directly,
+ * so a VirtualClock can replace the SystemClock and run a round faster than real time.
+ */
+public interface GameClock {
+
+    /**
+     * Returns the current time of this clock.
+     * Only the difference between two readings is meaningful.
+     *
+     * @return the current time in nanoseconds
+     */
+    long nanoTime();
+}
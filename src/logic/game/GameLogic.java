@@ -1,78 +1,42 @@
 package logic.game;
 
-import javafx.application.Platform;
-import javafx.scene.layout.HBox;
-import javafx.scene.text.Font;
-import javafx.scene.text.Text;
-import logic.components.GameCanvas;
 import logic.components.OvenArea;
-import logic.components.Score;
 import logic.components.ScorePane;
 import logic.components.TimerPane;
+import logic.model.ScoreLedger;
 
 public class GameLogic {
-    private static Timer timer;
     private static TimerPane timerPane;
-    private static Score score;
+    private static ScoreLedger score; // score of the round, readable from any thread
     private static ScorePane scorePane;
-    public static Timer plTimer; // timer for countdown timer method
-
-	// Update the score
-    public static void scoreBoard() {
-
-        // Thread that runs in the background to update the score
-        Thread scoreThread = new Thread(() -> {
-            try {
-                while (!SceneController.isGameEnded()) {
-                    Thread.sleep(100);  // Sleep for 100ms to reduce CPU usage
-                    Platform.runLater(() -> {
-                        scorePane.setScoreText(score); // Update the score on the UI
-                    });
-                }
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt(); // Restore the interrupted state
-            }
-        });
-
-        scoreThread.setDaemon(true); // Ensure the thread stops when the app closes
-        scoreThread.start();
+    public static Timer plTimer; // countdown of the current round, on the clock of its world
+    private static GameClock clock = new SystemClock(); // source of time for the whole game
+    private static GameSession session; // owns the tasks and threads of the current round
+    private static int rounds; // number of rounds started
+    private static final UiDispatcher uiDispatcher = new UiDispatcher(clock); // batches UI updates
+
+    // UI updates posted through the dispatcher, created once so posting does not allocate
+    private static final Runnable SCORE_UPDATE = () -> scorePane.setScoreText(score);
+    private static final Runnable TIMER_UPDATE = () -> timerPane.setTimer(plTimer);
+
+    // Post the current score to the UI, called whenever the score changes
+    public static void updateScoreBoard() {
+        uiDispatcher.post(scorePane, SCORE_UPDATE);
     }
 
-    // Start the countdown timer
-    public static void startCountDownTimer() {
-        Thread tt = new Thread(() -> {
-            try {
-                runCountDownTimer();
-            } catch (InterruptedException e1) {
-                e1.printStackTrace();
-            }
-        });
-        tt.start();
+    // Start the countdown of a round from its full length, called once its world has been reset
+    public static void startCountDownTimer(Timer countdown) {
+        plTimer = countdown;
+        plTimer.reset();
+        plTimer.setStop(false);  // The timer follows the world's clock, it is only read from here on
     }
 
-    // Run the countdown timer
-    public static void runCountDownTimer() throws InterruptedException {
-    	plTimer = timer;
-        plTimer.setStop(false);
-        new Thread(() -> {
-            while (!plTimer.isTimerEmpty()) {
-                try {
-                    Thread.sleep(20);  // Sleep for 20ms to allow UI updates
-                } catch (InterruptedException e) {
-                    e.printStackTrace();
-                }
-                Platform.runLater(() -> {
-                    timerPane.setTimer(plTimer);  // Update the timer on the UI
-                });
-
-                plTimer.decrementTimer(2);  // Decrease the timer
-            }
-            timerPane.setTimer(plTimer);  // Update the timer after time runs out
-            Platform.runLater(() -> {
-                SceneController.createEndScene();  // Show end scene when time is up
-            });
-        }).start();
-        plTimer.setStop(true);
+    // Update the timer on the UI, called once per frame. The round is ended by the GameWorld, not by this timer
+    public static void updateCountDownTimer() {
+        if (plTimer == null || SceneController.isGameEnded()) {
+            return;
+        }
+        uiDispatcher.post(timerPane, TIMER_UPDATE);  // Update the timer on the UI
     }
 
     // Set the TimerPane
@@ -85,21 +49,18 @@ public class GameLogic {
         GameLogic.scorePane = scorePane;
     }
 
-    // Get the score
-    public static Score getScore() {
+    // Get the score ledger
+    public static ScoreLedger getScore() {
         return score;
     }
 
-    // Set the score
-    public static void setScore(Score score) {
+    // Set the score ledger
+    public static void setScore(ScoreLedger score) {
         GameLogic.score = score;
     }
     
     // Get the plTimer
     public static Timer getPlTimer() {
-    	if(plTimer == null) {
-    		plTimer = timer;
-    	}
     	return plTimer;
     }
     
@@ -108,19 +69,44 @@ public class GameLogic {
     	GameLogic.plTimer = plTimer;
     }
 
+    // Get the session of the current round, null before the first round
+    public static GameSession getSession() {
+        return session;
+    }
+
+    // End the current round, stopping every task and thread it started
+    public static void endSession() {
+        if (session != null) {
+            session.close();
+        }
+    }
+
+    // Get the dispatcher that applies UI updates
+    public static UiDispatcher getUiDispatcher() {
+        return uiDispatcher;
+    }
+
+    // Get the clock used by the game
+    public static GameClock getClock() {
+        return clock;
+    }
+
+    // Set the clock used by the game, a VirtualClock runs the game faster than real time
+    public static void setClock(GameClock clock) {
+        GameLogic.clock = clock;
+        uiDispatcher.setClock(clock);  // Waiting times are measured on the same clock
+    }
+
     // Reset the game
     public static void resetGame() {
+        endSession();  // Nothing of the previous round may run next to the new one
+        session = new GameSession(++rounds);
         if (score != null) {
             score.reset();  // Reset the score
         } else {
-            score = new Score();
-        }
-        if (timer != null) {
-            timer.reset();  // Reset the timer
-        } else {
-            timer = new Timer();
+            score = new ScoreLedger();
         }
+        uiDispatcher.clear();  // Forget the UI of the previous game
         SceneController.setIsGameEnded(false);  // Set the game as not ended
-        GameCanvas.getOvenArea().reset();  // Reset the OvenArea
     }
 }
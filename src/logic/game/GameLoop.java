@@ -0,0 +1,171 @@
+package logic.game;
+
+import javafx.animation.AnimationTimer;
+import logic.model.GameWorld;
+
+/**
+ * The GameLoop drives the game with a single AnimationTimer.
+ * Frame time read from a GameClock is collected in an accumulator and consumed in fixed
+ * simulation steps, then the game is rendered once per frame. It also keeps frame-time
+ * statistics so frame pacing can be compared between builds.
+ * With a VirtualClock, runFrame can be called directly to run a round without JavaFX pulses.
+ */
+public class GameLoop implements ResetGameAble {
+
+    // Length of one simulation step, the same step the GameWorld simulates
+    public static final long STEP_NANOS = GameWorld.STEP_MILLIS * 1_000_000L;
+
+    // Longest frame accepted into the accumulator, so a stall does not replay seconds of steps
+    private static final long MAX_FRAME_NANOS = 250_000_000L;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final UpdateGameAble game;
+    private final GameClock clock;
+    private AnimationTimer pulse;
+    private long lastFrameTime = -1;
+    private long accumulator;
+
+    // Frame-time statistics (Welford's running mean and variance)
+    private long frameCount;
+    private long tickCount;
+    private double frameTimeMean;
+    private double frameTimeM2;
+    private double frameTimeMax;
+
+    /**
+     * Creates a game loop for the given component.
+     *
+     * @param game  the component updated and rendered by this loop
+     * @param clock the clock frame times are read from
+     */
+    public GameLoop(UpdateGameAble game, GameClock clock) {
+        this.game = game;
+        this.clock = clock;
+    }
+
+    /**
+     * Starts running one frame per JavaFX pulse.
+     */
+    public void start() {
+        if (pulse == null) {
+            pulse = new AnimationTimer() {
+                @Override
+                public void handle(long now) {
+                    runFrame(clock.nanoTime());
+                }
+            };
+        }
+        pulse.start();
+    }
+
+    /**
+     * Stops running frames on JavaFX pulses.
+     */
+    public void stop() {
+        if (pulse != null) {
+            pulse.stop();
+        }
+    }
+
+    /**
+     * Runs one frame: as many fixed steps as the elapsed time allows, then one render.
+     * Called once per JavaFX pulse, or directly when the loop is driven by a VirtualClock.
+     *
+     * @param now the time of the current frame in nanoseconds, read from the loop's clock
+     */
+    public void runFrame(long now) {
+        if (SceneController.isGameEnded()) {
+            stop();
+            return;
+        }
+
+        if (lastFrameTime < 0) {
+            lastFrameTime = now;
+            game.render();
+            return;
+        }
+
+        long frameTime = Math.min(now - lastFrameTime, MAX_FRAME_NANOS);
+        lastFrameTime = now;
+        recordFrameTime(frameTime);
+
+        accumulator += frameTime;
+        while (accumulator >= STEP_NANOS) {
+            game.update();
+            accumulator -= STEP_NANOS;
+            tickCount++;
+        }
+
+        game.render();
+    }
+
+    /**
+     * Adds one frame time to the running statistics.
+     *
+     * @param frameTime the frame time in nanoseconds
+     */
+    private void recordFrameTime(long frameTime) {
+        double millis = frameTime / NANOS_PER_MILLI;
+        frameCount++;
+        double delta = millis - frameTimeMean;
+        frameTimeMean += delta / frameCount;
+        frameTimeM2 += delta * (millis - frameTimeMean);
+        frameTimeMax = Math.max(frameTimeMax, millis);
+    }
+
+    /**
+     * Forgets the last frame time and the frame-time statistics, so the loop
+     * can run the next round from its first frame.
+     */
+    @Override
+    public void reset() {
+        lastFrameTime = -1;
+        accumulator = 0;
+        frameCount = 0;
+        tickCount = 0;
+        frameTimeMean = 0;
+        frameTimeM2 = 0;
+        frameTimeMax = 0;
+    }
+
+    // Getter for the clock of this loop
+    public GameClock getClock() {
+        return clock;
+    }
+
+    // Getter for the number of frames measured
+    public long getFrameCount() {
+        return frameCount;
+    }
+
+    // Getter for the number of simulation steps run
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    // Getter for the mean frame time in milliseconds
+    public double getFrameTimeMean() {
+        return frameTimeMean;
+    }
+
+    // Getter for the frame-time variance in milliseconds squared
+    public double getFrameTimeVariance() {
+        return frameCount > 1 ? frameTimeM2 / (frameCount - 1) : 0;
+    }
+
+    // Getter for the longest frame time in milliseconds
+    public double getFrameTimeMax() {
+        return frameTimeMax;
+    }
+
+    /**
+     * Returns the frame-time statistics as a single line.
+     *
+     * @return the statistics of this loop
+     */
+    @Override
+    public String toString() {
+        return String.format("frames=%d ticks=%d frameMean=%.2fms frameStdDev=%.2fms frameMax=%.2fms",
+                frameCount, tickCount, frameTimeMean, Math.sqrt(getFrameTimeVariance()), frameTimeMax);
+    }
+}
@@ -0,0 +1,150 @@
+package logic.game;
+
+import java.util.ArrayList;
+
+/**
+ * Owns everything started for one round: the game loop and any background thread.
+ * Threads are started through the session and named after the round, and every task
+ * registers how it is cancelled. When the round ends, close cancels every task,
+ * interrupts every thread and joins them, so nothing of a round outlives it
+ * no matter how quickly the next one starts.
+ */
+public class GameSession implements AutoCloseable {
+
+    // How long close waits for each thread to stop
+    private static final long JOIN_MILLIS = 1000;
+
+    private final int round;
+    private final ArrayList<Runnable> cancels = new ArrayList<>(); // Guarded by this
+    private final ArrayList<Thread> threads = new ArrayList<>(); // Guarded by this
+    private volatile boolean ended;
+    private int leaked; // Threads still alive after close
+
+    /**
+     * Creates the session of a round.
+     *
+     * @param round the number of the round, used to name its threads
+     */
+    public GameSession(int round) {
+        this.round = round;
+    }
+
+    /**
+     * Registers a task of this round, cancelled when the session closes.
+     * If the session has already ended, the task is cancelled right away.
+     *
+     * @param cancel stops the task, for example gameLoop::stop
+     */
+    public void own(Runnable cancel) {
+        synchronized (this) {
+            if (!ended) {
+                cancels.add(cancel);
+                return;
+            }
+        }
+        cancel.run();
+    }
+
+    /**
+     * Starts a daemon thread owned by this round, named "round-N-name".
+     * The thread should stop when it is interrupted or when isEnded returns true.
+     *
+     * @param name what the thread does, for the thread name
+     * @param task the work of the thread
+     * @return the started thread
+     * @throws IllegalStateException if the session has ended
+     */
+    public synchronized Thread startThread(String name, Runnable task) {
+        if (ended) {
+            throw new IllegalStateException("Round " + round + " has ended");
+        }
+        Thread thread = new Thread(task, "round-" + round + "-" + name);
+        thread.setDaemon(true);
+        threads.add(thread);
+        thread.start();
+        return thread;
+    }
+
+    /**
+     * Ends the round: cancels every task, then interrupts and joins every thread.
+     * Called on the JavaFX thread when the round ends and before the next one starts;
+     * closing a session twice does nothing.
+     */
+    @Override
+    public void close() {
+        Runnable[] toCancel;
+        Thread[] toJoin;
+        synchronized (this) {
+            if (ended) {
+                return;
+            }
+            ended = true;
+            toCancel = cancels.toArray(new Runnable[0]);
+            toJoin = threads.toArray(new Thread[0]);
+            cancels.clear();
+        }
+        for (Runnable cancel : toCancel) {
+            cancel.run();
+        }
+        for (Thread thread : toJoin) {
+            thread.interrupt();
+        }
+        boolean interrupted = false;
+        for (Thread thread : toJoin) {
+            try {
+                thread.join(JOIN_MILLIS);
+            } catch (InterruptedException e) {
+                interrupted = true; // Keep joining, restore the flag afterwards
+            }
+        }
+        synchronized (this) {
+            threads.removeIf(thread -> !thread.isAlive());
+            leaked = threads.size();
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Getter for whether the round has ended
+    public boolean isEnded() {
+        return ended;
+    }
+
+    // Getter for the number of the round
+    public int getRound() {
+        return round;
+    }
+
+    // Getter for the number of threads of this round that are still alive
+    public synchronized int getThreadCount() {
+        int alive = 0;
+        for (Thread thread : threads) {
+            if (thread.isAlive()) {
+                alive++;
+            }
+        }
+        return alive;
+    }
+
+    // Getter for the number of tasks not cancelled yet
+    public synchronized int getTaskCount() {
+        return cancels.size();
+    }
+
+    // Getter for the number of threads that did not stop when the session closed
+    public synchronized int getLeakedThreads() {
+        return leaked;
+    }
+
+    /**
+     * Returns a summary of the session.
+     *
+     * @return the round, whether it ended and its live threads and tasks
+     */
+    @Override
+    public String toString() {
+        return "GameSession[round=" + round + ", ended=" + ended + ", threads=" + getThreadCount()
+                + ", tasks=" + getTaskCount() + ", leaked=" + getLeakedThreads() + "]";
+    }
+}
@@ -0,0 +1,104 @@
+package logic.game;
+
+import java.util.Arrays;
+
+/**
+ * Measures input-to-display latency: the time from the arrival of a key press
+ * to the first rendered frame that shows its effect (a move, an oven action, a serve or a discard).
+ * One LatencyHistogram is kept per key, plus one for all keys together.
+ */
+public class InputLatencyMonitor {
+
+    private static final int KEYS = 8; // Number of GameInput keys
+    private static final String[] KEY_NAMES = { "move up (W)", "move down (S)", "move left (A)", "move right (D)",
+            "bake (E)", "take out (Q)", "serve (R)", "trash (F)" };
+    private static final long NONE = Long.MIN_VALUE;
+
+    private final LatencyHistogram[] histograms = new LatencyHistogram[KEYS];
+    private final LatencyHistogram all = new LatencyHistogram();
+    private final long[] pendingSince = new long[KEYS];
+
+    /**
+     * Creates a monitor with empty histograms.
+     */
+    public InputLatencyMonitor() {
+        for (int i = 0; i < KEYS; i++) {
+            histograms[i] = new LatencyHistogram();
+        }
+        Arrays.fill(pendingSince, NONE);
+    }
+
+    /**
+     * Notes that a key press has taken effect in the game and waits for the next frame to show it.
+     *
+     * @param key         the GameInput flag of the key
+     * @param arrivalTime the time the key press arrived, in nanoseconds
+     */
+    public void effectApplied(int key, long arrivalTime) {
+        int index = Integer.numberOfTrailingZeros(key);
+        if (index < KEYS && pendingSince[index] == NONE) {
+            pendingSince[index] = arrivalTime;
+        }
+    }
+
+    /**
+     * Records the latency of every effect that this frame is the first to show.
+     *
+     * @param frameTime the time the frame was rendered, in nanoseconds
+     */
+    public void frameRendered(long frameTime) {
+        for (int i = 0; i < KEYS; i++) {
+            if (pendingSince[i] != NONE) {
+                long latency = frameTime - pendingSince[i];
+                histograms[i].record(latency);
+                all.record(latency);
+                pendingSince[i] = NONE;
+            }
+        }
+    }
+
+    /**
+     * Returns the histogram of one key.
+     *
+     * @param key the GameInput flag of the key
+     * @return the latency histogram of the key
+     */
+    public LatencyHistogram getHistogram(int key) {
+        return histograms[Integer.numberOfTrailingZeros(key)];
+    }
+
+    /**
+     * Returns the histogram of all keys together.
+     *
+     * @return the latency histogram of every key
+     */
+    public LatencyHistogram getAll() {
+        return all;
+    }
+
+    /**
+     * Returns the latency percentiles of every key that was used.
+     *
+     * @return one line per key and one for all keys
+     */
+    public String report() {
+        StringBuilder report = new StringBuilder("Input-to-display latency: ").append(all);
+        for (int i = 0; i < KEYS; i++) {
+            if (histograms[i].getCount() > 0) {
+                report.append(System.lineSeparator()).append("  ").append(KEY_NAMES[i]).append(": ").append(histograms[i]);
+            }
+        }
+        return report.toString();
+    }
+
+    /**
+     * Clears the histograms and pending effects.
+     */
+    public void reset() {
+        for (int i = 0; i < KEYS; i++) {
+            histograms[i].reset();
+        }
+        all.reset();
+        Arrays.fill(pendingSince, NONE);
+    }
+}
@@ -0,0 +1,99 @@
+package logic.game;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A lock-free single-producer/single-consumer ring buffer of timestamped key events.
+ * The key handlers are the only producer and the game tick is the only consumer,
+ * so neither side ever blocks the other. An event is a GameInput key flag, with
+ * RELEASED added for a key release.
+ */
+public class InputQueue {
+
+    public static final int RELEASED = 1 << 30; // Added to an event when the key was released
+    public static final int KEY_MASK = RELEASED - 1;
+
+    private final int[] events;
+    private final long[] times;
+    private final int mask;
+
+    private final AtomicLong head = new AtomicLong(); // Next event to read, written by the consumer
+    private final AtomicLong tail = new AtomicLong(); // Next event to write, written by the producer
+    private long dropped;
+
+    /**
+     * Creates a queue that holds at least the given number of events.
+     *
+     * @param capacity the minimum number of events, rounded up to a power of two
+     */
+    public InputQueue(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.events = new int[size];
+        this.times = new long[size];
+        this.mask = size - 1;
+    }
+
+    /**
+     * Adds an event. Called by the producer only.
+     * When the queue is full the event is dropped and counted, the producer never waits.
+     *
+     * @param event the event to add
+     * @param time  the time the event arrived, in nanoseconds
+     * @return true if the event was added, false if it was dropped
+     */
+    public boolean offer(int event, long time) {
+        long t = tail.get();
+        if (t - head.get() > mask) {
+            dropped++;
+            return false;
+        }
+        int index = (int) (t & mask);
+        events[index] = event;
+        times[index] = time;
+        tail.lazySet(t + 1); // Publish the event after it is written
+        return true;
+    }
+
+    /**
+     * Returns the number of events waiting. Called by the consumer only.
+     *
+     * @return the number of events that can be read
+     */
+    public int available() {
+        return (int) (tail.get() - head.get());
+    }
+
+    /**
+     * Returns a waiting event without removing it. Called by the consumer only.
+     *
+     * @param i the position of the event, below available()
+     * @return the event
+     */
+    public int eventAt(int i) {
+        return events[(int) ((head.get() + i) & mask)];
+    }
+
+    /**
+     * Returns the arrival time of a waiting event. Called by the consumer only.
+     *
+     * @param i the position of the event, below available()
+     * @return the arrival time in nanoseconds
+     */
+    public long timeAt(int i) {
+        return times[(int) ((head.get() + i) & mask)];
+    }
+
+    /**
+     * Removes events that have been read. Called by the consumer only.
+     *
+     * @param count the number of events to remove
+     */
+    public void consume(int count) {
+        head.lazySet(head.get() + count);
+    }
+
+    // Getter for the number of events dropped because the queue was full
+    public long getDropped() {
+        return dropped;
+    }
+}
@@ -1,20 +1,27 @@
 package logic.game;
 
-import javafx.event.EventHandler;
+import java.util.Arrays;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 import logic.components.GameCanvas;
+import logic.model.GameInput;
+import logic.model.InputSnapshot;
 
-public class KeyboardController {
-    // Boolean flags to track the key states (pressed or not)
-    private boolean upPressed = false;   // 'W' key for up
-    private boolean downPressed = false; // 'S' key for down
-    private boolean leftPressed = false; // 'A' key for left
-    private boolean rightPressed = false; // 'D' key for right
-    private boolean ePressed = false;    // 'E' key for some action (example: use item)
-    private boolean qPressed = false;    // 'Q' key for another action (example: quit)
-    private boolean rPressed = false;    // 'R' key for reset
-    private boolean fPressed = false;    // 'F' key for some action (example: fight)
+public class KeyboardController implements ResetGameAble {
+    // Number of key events buffered between two game ticks
+    private static final int QUEUE_CAPACITY = 256;
+    private static final int KEYS = 8; // Number of GameInput keys
+
+    // Key events waiting for the next game tick, with the time they arrived
+    private final InputQueue queue = new InputQueue(QUEUE_CAPACITY);
+    private final GameClock clock;
+
+    // Keys held after the last tick, and the snapshot of that tick
+    private int held = GameInput.NONE;
+    private InputSnapshot snapshot = InputSnapshot.EMPTY;
+
+    // Arrival time of the latest press edge of each key
+    private final long[] pressTimes = new long[KEYS];
 
     // Static reference to KeyboardController (can be shared across other components)
     public static KeyboardController keyboardController;
@@ -26,149 +33,137 @@ public class KeyboardController {
      * @param gameCanvas The GameCanvas object to register key events for
      */
     public KeyboardController(GameCanvas gameCanvas) {
+        this.clock = GameLogic.getClock();
         // Register the event handlers for key press and key release
         gameCanvas.setOnKeyPressed(this::handleKeyPress);  // When a key is pressed
         gameCanvas.setOnKeyReleased(this::handleKeyRelease); // When a key is released
     }
 
     /**
-     * Handle key press events. Sets the appropriate boolean flags when specific keys are pressed.
+     * Handle key press events. Queues a press of the key with the time it arrived.
      *
      * @param e The KeyEvent triggered when a key is pressed
      */
     public void handleKeyPress(KeyEvent e) {
-        // Check which key was pressed and set the corresponding flag to true
-        if (e.getCode() == KeyCode.W) {
-            upPressed = true;
-        }
-        if (e.getCode() == KeyCode.S) {
-            downPressed = true;
-        }
-        if (e.getCode() == KeyCode.A) {
-            leftPressed = true;
-        }
-        if (e.getCode() == KeyCode.D) {
-            rightPressed = true;
-        }
-        if (e.getCode() == KeyCode.E && !e.isConsumed()) {
-            ePressed = true;  // Trigger some action when 'E' is pressed
+        int key = toGameInput(e.getCode());
+        if (key != GameInput.NONE) {
+            queue.offer(key, clock.nanoTime());
             e.consume();  // Consume the event so it doesn't propagate
         }
-        if (e.getCode() == KeyCode.Q && !e.isConsumed()) {
-            qPressed = true;  // Trigger another action when 'Q' is pressed
-        }
-        if (e.getCode() == KeyCode.R && !e.isConsumed()) {
-            rPressed = true;  // Trigger reset action when 'R' is pressed
-        }
-        if (e.getCode() == KeyCode.F && !e.isConsumed()) {
-            fPressed = true;  // Trigger some action (e.g., fight) when 'F' is pressed
-        }
     }
 
     /**
-     * Handle key release events. Resets the corresponding boolean flags when specific keys are released.
+     * Handle key release events. Queues a release of the key with the time it arrived.
      *
      * @param e The KeyEvent triggered when a key is released
      */
     public void handleKeyRelease(KeyEvent e) {
-        // Check which key was released and reset the corresponding flag to false
-        if (e.getCode() == KeyCode.W) {
-            upPressed = false;
-        }
-        if (e.getCode() == KeyCode.S) {
-            downPressed = false;
-        }
-        if (e.getCode() == KeyCode.A) {
-            leftPressed = false;
-        }
-        if (e.getCode() == KeyCode.D) {
-            rightPressed = false;
-        }
-        if (e.getCode() == KeyCode.E) {
-            ePressed = false;  // Reset 'E' key state
-        }
-        if (e.getCode() == KeyCode.Q) {
-            qPressed = false;  // Reset 'Q' key state
-        }
-        if (e.getCode() == KeyCode.R) {
-            rPressed = false;  // Reset 'R' key state
-        }
-        if (e.getCode() == KeyCode.F) {
-            fPressed = false;  // Reset 'F' key state
+        int key = toGameInput(e.getCode());
+        if (key != GameInput.NONE) {
+            queue.offer(key | InputQueue.RELEASED, clock.nanoTime());
         }
     }
 
-    // Getter methods for each key state
-
     /**
-     * Returns true if the 'W' key (up) is pressed.
+     * Maps a key to its GameInput flag.
      *
-     * @return boolean indicating whether the 'W' key is pressed
+     * @param code The key code
+     * @return the GameInput flag, or GameInput.NONE for keys the game does not use
      */
-    public boolean isUpPressed() {
-        return upPressed;
+    private static int toGameInput(KeyCode code) {
+        switch (code) {
+            case W:
+                return GameInput.UP;
+            case S:
+                return GameInput.DOWN;
+            case A:
+                return GameInput.LEFT;
+            case D:
+                return GameInput.RIGHT;
+            case E:
+                return GameInput.BAKE;
+            case Q:
+                return GameInput.TAKE_OUT;
+            case R:
+                return GameInput.SERVE;
+            case F:
+                return GameInput.TRASH;
+            default:
+                return GameInput.NONE;
+        }
     }
 
     /**
-     * Returns true if the 'S' key (down) is pressed.
+     * Consumes every queued key event, in arrival order, into the snapshot for one game tick.
+     * A press is only an edge if the key was up, so key repeat does not press it again;
+     * a press and release that both arrived since the last tick still count as a press.
      *
-     * @return boolean indicating whether the 'S' key is pressed
+     * @return the input snapshot of this tick
      */
-    public boolean isDownPressed() {
-        return downPressed;
-    }
+    public InputSnapshot takeSnapshot() {
+        int pressed = GameInput.NONE;
+        int released = GameInput.NONE;
+        int keys = held;
 
-    /**
-     * Returns true if the 'A' key (left) is pressed.
-     *
-     * @return boolean indicating whether the 'A' key is pressed
-     */
-    public boolean isLeftPressed() {
-        return leftPressed;
-    }
+        int count = queue.available();
+        for (int i = 0; i < count; i++) {
+            int event = queue.eventAt(i);
+            int key = event & InputQueue.KEY_MASK;
+            if ((event & InputQueue.RELEASED) != 0) {
+                if ((keys & key) != 0) {
+                    released |= key;
+                }
+                keys &= ~key;
+            } else if ((keys & key) == 0) {
+                pressed |= key;
+                keys |= key;
+                pressTimes[Integer.numberOfTrailingZeros(key)] = queue.timeAt(i);
+            }
+        }
+        queue.consume(count);
 
-    /**
-     * Returns true if the 'D' key (right) is pressed.
-     *
-     * @return boolean indicating whether the 'D' key is pressed
-     */
-    public boolean isRightPressed() {
-        return rightPressed;
+        held = keys;
+        snapshot = new InputSnapshot(held, pressed, released);
+        return snapshot;
     }
 
     /**
-     * Returns true if the 'E' key is pressed.
+     * Returns the arrival time of the latest press of a key, such as a press edge in the last snapshot.
      *
-     * @return boolean indicating whether the 'E' key is pressed
+     * @param key the GameInput flag of the key
+     * @return the time the press arrived, in nanoseconds of the game clock
      */
-    public boolean isEPressed() {
-        return ePressed;
+    public long getPressTime(int key) {
+        return pressTimes[Integer.numberOfTrailingZeros(key)];
     }
 
     /**
-     * Returns true if the 'Q' key is pressed.
+     * Returns the snapshot of the last game tick.
      *
-     * @return boolean indicating whether the 'Q' key is pressed
+     * @return the last input snapshot
      */
-    public boolean isQPressed() {
-        return qPressed;
+    public InputSnapshot getSnapshot() {
+        return snapshot;
     }
 
     /**
-     * Returns true if the 'R' key is pressed.
-     *
-     * @return boolean indicating whether the 'R' key is pressed
+     * Drops the queued key events and forgets the held keys, so keys still down
+     * at the end of a round are not carried into the next one.
      */
-    public boolean isRPressed() {
-        return rPressed;
+    @Override
+    public void reset() {
+        queue.consume(queue.available());
+        held = GameInput.NONE;
+        snapshot = InputSnapshot.EMPTY;
+        Arrays.fill(pressTimes, 0);
     }
 
     /**
-     * Returns true if the 'F' key is pressed.
+     * Returns the number of key events dropped because more arrived between two ticks than fit the queue.
      *
-     * @return boolean indicating whether the 'F' key is pressed
+     * @return the number of dropped key events
      */
-    public boolean isFPressed() {
-        return fPressed;
+    public long getDroppedEvents() {
+        return queue.getDropped();
     }
 }
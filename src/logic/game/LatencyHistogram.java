@@ -0,0 +1,123 @@
+package logic.game;
+
+import java.util.Arrays;
+
+/**
+ * A fixed-size histogram of latencies in nanoseconds.
+ * Buckets are log-linear: every power of two is split into 32 buckets, so any recorded
+ * value is kept to about 3% precision. Recording is a few arithmetic operations and an
+ * array increment, with no allocation, so it can be called from the game loop.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 40;                  // Values up to about 18 minutes
+    private static final long MAX_VALUE = (1L << (MAX_EXPONENT + SUB_BUCKET_BITS)) - 1;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final long[] counts = new long[(MAX_EXPONENT + 1) * SUB_BUCKETS];
+    private long totalCount;
+    private long max;
+    private double sum;
+
+    /**
+     * Records one latency. Negative values count as zero and huge values are capped.
+     *
+     * @param nanos the latency in nanoseconds
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, Math.min(nanos, MAX_VALUE));
+        counts[indexOf(value)]++;
+        totalCount++;
+        sum += value;
+        max = Math.max(max, value);
+    }
+
+    /**
+     * Returns the bucket that holds a value.
+     *
+     * @param value the value, between 0 and MAX_VALUE
+     * @return the bucket index
+     */
+    private static int indexOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return (exponent + 1) * SUB_BUCKETS + (int) ((value >>> exponent) - SUB_BUCKETS);
+    }
+
+    /**
+     * Returns the highest value that falls in a bucket.
+     *
+     * @param index the bucket index
+     * @return the highest value of the bucket
+     */
+    private static long highestValueOf(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int exponent = index / SUB_BUCKETS - 1;
+        long lowest = (long) (index % SUB_BUCKETS + SUB_BUCKETS) << exponent;
+        return lowest + (1L << exponent) - 1;
+    }
+
+    /**
+     * Returns the latency below which the given share of the recorded values fall.
+     *
+     * @param percentile the percentile, from 0 to 100
+     * @return the latency in nanoseconds, or 0 if nothing was recorded
+     */
+    public long getPercentile(double percentile) {
+        if (totalCount == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(totalCount * percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= target) {
+                return Math.min(highestValueOf(i), max);
+            }
+        }
+        return max;
+    }
+
+    // Getter for the number of recorded values
+    public long getCount() {
+        return totalCount;
+    }
+
+    // Getter for the highest recorded value in nanoseconds
+    public long getMax() {
+        return max;
+    }
+
+    // Getter for the mean of the recorded values in nanoseconds
+    public double getMean() {
+        return totalCount > 0 ? sum / totalCount : 0;
+    }
+
+    /**
+     * Clears every recorded value.
+     */
+    public void reset() {
+        Arrays.fill(counts, 0);
+        totalCount = 0;
+        max = 0;
+        sum = 0;
+    }
+
+    /**
+     * Returns a summary of the histogram in milliseconds.
+     *
+     * @return count, p50, p99, p99.9 and max
+     */
+    @Override
+    public String toString() {
+        return String.format("n=%d p50=%.2fms p99=%.2fms p99.9=%.2fms max=%.2fms",
+                totalCount, getPercentile(50) / NANOS_PER_MILLI, getPercentile(99) / NANOS_PER_MILLI,
+                getPercentile(99.9) / NANOS_PER_MILLI, max / NANOS_PER_MILLI);
+    }
+}
@@ -2,7 +2,6 @@ package logic.game;
 
 import javafx.application.Platform;
 import javafx.scene.Scene;
-import javafx.scene.media.MediaPlayer;
 import javafx.stage.Stage;
 import logic.components.GameCanvas;
 import logic.components.MenuCanvas;
@@ -12,11 +11,14 @@ import logic.components.EndCanvas;
 /**
  * The SceneController is responsible for managing the scenes in the game.
  * It handles switching between the menu, play, and end scenes.
+ * Each scene is built the first time it is shown and reused afterwards,
+ * so a restart resets the play and end screens in place instead of building them again.
  */
 public class SceneController {
 
     // Fields for managing game scenes and stage
     private static GameCanvas gameCanvas;
+    private static EndCanvas endCanvas;
     private static boolean isGameEnded;
     private static Stage stage;
     private static Scene menuScene;
@@ -24,7 +26,8 @@ public class SceneController {
     private static Scene endScene;
     private static Scene tutorialScene;
     private static Tutorial tutorial;
-    
+    private static long lastRestartNanos; // Time taken by the last showPlayScene
+    private static final boolean PRINT_REPORT = Boolean.getBoolean("croissantboom.report"); // Run with -Dcroissantboom.report=true to print the reports
 
     /**
      * Set the primary stage for the application.
@@ -39,16 +42,18 @@ public class SceneController {
      * Setup the initial scene, which is the menu scene.
      */
     public static void setupScene() {
-        createMenuScene();
+        if (menuScene == null) {
+            createMenuScene();
+        }
         switchScene(menuScene);
     }
     
     
-    /*
-     * Pre create TutorialScene because video is very large
+    /**
+     * Create the tutorial scene the first time it is shown.
+     * The video itself is opened by the Tutorial when it is played.
      */
-    
-    public static void createTutorialScene() {        
+    private static void createTutorialScene() {
         tutorial = new Tutorial();
         tutorialScene = new Scene(tutorial, 1000, 720);
     }
@@ -62,14 +67,20 @@ public class SceneController {
     }
 
     /**
-     * Create the play scene and reset the game.
+     * Reset the game and show the play scene, creating it on the first round.
      */
     public static void showPlayScene() { 
+        long start = System.nanoTime();
 	    GameLogic.resetGame();
-	    gameCanvas = new GameCanvas();
-	    playScene = new Scene(gameCanvas, 1000, 720);
+	    if (playScene == null) {
+	        gameCanvas = new GameCanvas();
+	        playScene = new Scene(gameCanvas, 1000, 720);
+	    } else {
+	        gameCanvas.reset(); // Warm restart, the scene graph is kept
+	    }
     	isGameEnded = false;
         switchScene(playScene);
+        lastRestartNanos = System.nanoTime() - start;
     }
 
     /**
@@ -77,32 +88,30 @@ public class SceneController {
      */
     public static void createEndScene() {
         isGameEnded = true;
+        GameLogic.endSession(); // Stop the game loop and every thread of the round
+        if (PRINT_REPORT && GameCanvas.getWalkGround() != null) {
+            System.out.println(GameCanvas.getWalkGround().roundReport());
+        }
         gameCanvas.setGameOverText(); // Show game over text on the canvas
-        EndCanvas endCanvas = new EndCanvas();
-        endScene = new Scene(endCanvas, 1000, 720);
+        if (endScene == null) {
+            endCanvas = new EndCanvas();
+            endScene = new Scene(endCanvas, 1000, 720);
+        } else {
+            endCanvas.reset(); // Show the result of this round
+        }
         switchScene(endScene);
     }
     
     /**
-     * Show the tutorial scene.
+     * Show the tutorial scene. It shows a loading indicator until the video is ready.
      */
     public static void showTutorialScene() {
-    		while(tutorial.getMediaPlayer() == null) {
-    			try { 
-    				Thread.sleep(200);
-    			} catch (InterruptedException e) {
-					// TODO Auto-generated catch block
-					e.printStackTrace();
-				}
-    		}
-    		
-    		tutorial.getMediaPlayer().stop();
-			tutorial.getMediaPlayer().seek(javafx.util.Duration.ZERO); // play clip from the begining
-			tutorial.getMediaPlayer().setCycleCount(MediaPlayer.INDEFINITE); // loop
-			tutorial.getMediaPlayer().play();
-			switchScene(tutorialScene);
-	
-}
+        if (tutorial == null) {
+            createTutorialScene();
+        }
+        switchScene(tutorialScene);
+        tutorial.play();
+    }
 
     /**
      * Switch to the given scene.
@@ -110,6 +119,9 @@ public class SceneController {
      * @param newScene the new scene to display
      */
     public static void switchScene(Scene newScene) {
+        if (tutorialScene != null && stage.getScene() == tutorialScene && newScene != tutorialScene) {
+            tutorial.close(); // Release the video when the tutorial is left
+        }
         stage.setScene(newScene);
         stage.show();
     }
@@ -123,6 +135,16 @@ public class SceneController {
         return isGameEnded;
     }
 
+    /**
+     * Checks whether the loading and round reports are printed, which is the case when the game
+     * is run with -Dcroissantboom.report=true.
+     * 
+     * @return true if reports are printed, otherwise false
+     */
+    public static boolean isReportEnabled() {
+        return PRINT_REPORT;
+    }
+
     /**
      * Set the game status as ended or not, and update the game canvas accordingly.
      * 
@@ -135,6 +157,15 @@ public class SceneController {
         }
     }
 
+    /**
+     * Get the time the last round took to start, including building the play scene on the first round.
+     * 
+     * @return the start time of the last round in nanoseconds
+     */
+    public static long getLastRestartNanos() {
+        return lastRestartNanos;
+    }
+
     /**
      * Get the current scene.
      * 
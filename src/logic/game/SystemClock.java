@@ -0,0 +1,17 @@
+package logic.game;
+
+/**
+ * GameClock that follows real time, based on the monotonic System.nanoTime.
+ */
+public class SystemClock implements GameClock {
+
+    /**
+     * Returns the current monotonic system time.
+     *
+     * @return System.nanoTime()
+     */
+    @Override
+    public long nanoTime() {
+        return System.nanoTime();
+    }
+}
@@ -1,93 +1,135 @@
 package logic.game;
 
 /**
- * The Timer class is responsible for managing the in-game timer.
- * It tracks time in minutes, seconds, and milliseconds, and allows for decrementing and resetting.
+ * The Timer class is responsible for managing the in-game countdown.
+ * It keeps a monotonic deadline on a GameClock and computes the remaining time
+ * whenever it is read, so it never drifts no matter how late it is read or how often.
+ * It can be paused and resumed, and shows the time in minutes, seconds, and hundredths of a second.
+ * The HUD countdown runs on the GameWorld's clock, so it reads 0 exactly when the world's
+ * scheduled roundOver event ends the round, even if the world falls behind real time after a stall.
  */
 public class Timer implements ResetGameAble {
 
-    // Constants for the default initial values
+    // Constants for the default round length
     private static final int INITIAL_MINUTE = 1;
     private static final int INITIAL_SECONDS = 30;
-    private static final int INITIAL_MS = 0;
-    private static final int MS_DECREMENT = 100;
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+    private static final long NANOS_PER_CENTI = 10_000_000L;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
     
-    // Fields for minute, seconds, and milliseconds
-    private int minute;
-    private int seconds;
-    private int ms;
+    // Source of time and length of a full countdown
+    private final GameClock clock;
+    private final long durationNanos;
+
+    // Remaining time while stopped, and the deadline while running
+    private long remainingNanos;
+    private long deadline;
     private boolean isStop;
 
     /**
-     * Constructor initializes the timer to 0 minutes, 40 seconds, and 0 milliseconds.
+     * Constructor initializes a stopped timer of 1 minute and 30 seconds on the system clock.
      */
     public Timer() {
-        this.minute = INITIAL_MINUTE;
-        this.seconds = INITIAL_SECONDS;
-        this.ms = INITIAL_MS;
-        this.isStop = true;
+        this(new SystemClock());
     }
 
     /**
-     * Decrements the timer by a specified amount of milliseconds.
-     * It handles underflowing values for seconds and minutes when milliseconds go below zero.
+     * Constructor initializes a stopped timer of 1 minute and 30 seconds on the given clock.
      * 
-     * @param amount the amount to decrement (in milliseconds)
+     * @param clock the clock the timer counts down on
      */
-    public void decrementTimer(int amount) {
-        if (isTimerEmpty()) {
-            return;
-        }
+    public Timer(GameClock clock) {
+        this(clock, (INITIAL_MINUTE * 60L + INITIAL_SECONDS) * 1000L);
+    }
 
-        ms -= amount;
+    /**
+     * Constructor initializes a stopped timer of the given length.
+     * 
+     * @param clock          the clock the timer counts down on
+     * @param durationMillis the length of the countdown in milliseconds
+     */
+    public Timer(GameClock clock, long durationMillis) {
+        this.clock = clock;
+        this.durationNanos = durationMillis * NANOS_PER_MILLI;
+        reset();
+    }
 
-        while (ms < 0) {
-            if (isTimerEmpty()) {
-                ms = 0;
-                return;
-            }
-            ms += MS_DECREMENT;
-            seconds -= 1;
-            handleSecondsUnderflow();
+    /**
+     * Starts or resumes the countdown from the time that is left.
+     */
+    public void resume() {
+        if (isStop) {
+            deadline = clock.nanoTime() + remainingNanos;
+            isStop = false;
         }
     }
 
     /**
-     * Handles the underflow of seconds (i.e., when seconds go below 0).
-     * It adjusts the minute value accordingly.
+     * Pauses the countdown, keeping the time that is left.
      */
-    private void handleSecondsUnderflow() {
-        while (seconds < 0) {
-            seconds += 60;
-            minute -= 1;
+    public void pause() {
+        if (!isStop) {
+            remainingNanos = Math.max(0, deadline - clock.nanoTime());
+            isStop = true;
         }
     }
 
     /**
-     * Checks if the timer has reached zero (i.e., all time values are zero).
+     * Returns the time left on the timer.
+     * 
+     * @return the remaining time in nanoseconds, never negative
+     */
+    public long getRemainingNanos() {
+        if (isStop) {
+            return remainingNanos;
+        }
+        return Math.max(0, deadline - clock.nanoTime());
+    }
+
+    /**
+     * Returns the time left on the timer in whole hundredths of a second, as shown by the HUD.
+     * 
+     * @return the remaining hundredths of a second
+     */
+    public int getRemainingCentis() {
+        return (int) (getRemainingNanos() / NANOS_PER_CENTI);
+    }
+
+    /**
+     * Checks if the timer has reached zero.
      * 
      * @return true if the timer is empty, otherwise false
      */
     public boolean isTimerEmpty() {
-        return minute <= 0 && seconds <= 0 && ms <= 0;
+        return getRemainingNanos() <= 0;
     }
     
     /**
      * Set timer to end.
      */
     public void setTimerEmpty() {
-    	this.minute = 0;
-        this.seconds = 0;
-        this.ms = 0;
+        this.remainingNanos = 0;
+        this.deadline = clock.nanoTime();
     }
 
     /**
-     * Returns the timer as a formatted string: "MM:SS:MS".
+     * Returns the timer as a formatted string: "MM:SS:MS", where MS is hundredths of a second.
      * 
      * @return the string representation of the timer
      */
     public String toString() {
-        return String.format("%02d:%02d:%02d", minute, seconds, ms);
+        int totalCentis = getRemainingCentis();
+        int totalSeconds = totalCentis / 100;
+        return String.format("%02d:%02d:%02d", totalSeconds / 60, totalSeconds % 60, totalCentis % 100);
+    }
+
+    /**
+     * Returns the clock this timer counts down on.
+     * 
+     * @return the clock of the timer
+     */
+    public GameClock getClock() {
+        return clock;
     }
 
     /**
@@ -102,20 +144,23 @@ public class Timer implements ResetGameAble {
     /**
      * Sets the stop status of the timer.
      * 
-     * @param isStop true to stop the timer, false to start it
+     * @param isStop true to pause the timer, false to start or resume it
      */
     public void setStop(boolean isStop) {
-        this.isStop = isStop;
+        if (isStop) {
+            pause();
+        } else {
+            resume();
+        }
     }
 
     /**
-     * Resets the timer to the default values (0 minutes, 30 seconds, and 0 milliseconds).
+     * Resets the timer to a stopped, full countdown (1 minute and 30 seconds by default).
      */
     @Override
     public void reset() {
-        this.minute = INITIAL_MINUTE;
-        this.seconds = INITIAL_SECONDS;
-        this.ms = INITIAL_MS;
+        this.remainingNanos = durationNanos;
+        this.deadline = 0;
         this.isStop = true;
     }
 }
@@ -0,0 +1,210 @@
+package logic.game;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import javafx.application.Platform;
+
+/**
+ * Collects UI updates and applies them in batches on the JavaFX thread.
+ * Each update belongs to a target (usually the node it changes); posting a new update
+ * for a target replaces the one still waiting, so only the latest value is ever drawn.
+ * While the game loop runs, it flushes the batch at the end of every frame, and updates
+ * posted on the JavaFX thread wait for that flush. Otherwise at most one Platform.runLater
+ * is outstanding at a time. Updates run outside the lock, so a slow update never blocks
+ * a thread that posts. Queue depth and waiting time are measured.
+ */
+public class UiDispatcher {
+
+    /**
+     * The latest waiting update of one target.
+     */
+    private static final class Pending {
+        private Runnable update;
+        private long postedAt;
+    }
+
+    private volatile GameClock clock;
+    private final IdentityHashMap<Object, Pending> byTarget = new IdentityHashMap<>();
+    private final ArrayList<Pending> targets = new ArrayList<>();
+    private final Runnable flushTask = this::runScheduledFlush;
+    private final LatencyHistogram waitTimes = new LatencyHistogram();
+    private int depth;
+    private int maxDepth;
+    private boolean flushScheduled; // A runLater is outstanding, cleared only when it runs
+    private boolean flushedEveryFrame; // The game loop flushes at the end of every frame
+    private Runnable[] batch = new Runnable[8]; // Updates of the batch being run, used only on the JavaFX thread
+    private long posted;
+    private long coalesced;
+    private long batches;
+
+    /**
+     * Creates a dispatcher.
+     *
+     * @param clock the clock used to measure how long updates wait
+     */
+    public UiDispatcher(GameClock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Posts an update for a target. May be called from any thread.
+     * An update of the same target that is still waiting is dropped.
+     *
+     * @param target the object the update changes, compared by identity
+     * @param update the update to run on the JavaFX thread
+     */
+    public void post(Object target, Runnable update) {
+        boolean schedule;
+        synchronized (this) {
+            Pending pending = byTarget.get(target);
+            if (pending == null) {
+                pending = new Pending();
+                byTarget.put(target, pending);
+                targets.add(pending);
+            }
+            if (pending.update != null) {
+                coalesced++;
+            } else {
+                depth++;
+                maxDepth = Math.max(maxDepth, depth);
+            }
+            pending.update = update;
+            pending.postedAt = clock.nanoTime();
+            posted++;
+
+            // The frame's own flush picks up updates posted on the JavaFX thread
+            schedule = !flushScheduled && !(flushedEveryFrame && Platform.isFxApplicationThread());
+            if (schedule) {
+                flushScheduled = true;
+            }
+        }
+        if (schedule) {
+            Platform.runLater(flushTask);
+        }
+    }
+
+    /**
+     * Runs every waiting update as one batch. Must be called on the JavaFX thread.
+     * Called by the game loop at the end of each frame and by the scheduled runLater.
+     * The batch is taken under the lock and run after it is released.
+     */
+    public void flush() {
+        long now = clock.nanoTime();
+        int count = 0;
+        synchronized (this) {
+            if (depth == 0) {
+                return;
+            }
+            batches++;
+            if (batch.length < depth) {
+                batch = new Runnable[Math.max(depth, 2 * batch.length)];
+            }
+            for (int i = 0; i < targets.size(); i++) {
+                Pending pending = targets.get(i);
+                if (pending.update != null) {
+                    batch[count++] = pending.update;
+                    pending.update = null;
+                    waitTimes.record(now - pending.postedAt);
+                }
+            }
+            depth = 0;
+        }
+        for (int i = 0; i < count; i++) {
+            Runnable update = batch[i];
+            batch[i] = null; // Do not keep the update alive until the next batch
+            update.run();
+        }
+    }
+
+    /**
+     * Runs the flush scheduled with runLater. Only this task clears the scheduled flag,
+     * so the game loop's flush does not cause another runLater on the next post.
+     */
+    private void runScheduledFlush() {
+        synchronized (this) {
+            flushScheduled = false;
+        }
+        flush();
+    }
+
+    /**
+     * Tells the dispatcher whether the game loop flushes it at the end of every frame.
+     * While it does, updates posted on the JavaFX thread are not scheduled with runLater.
+     *
+     * @param flushedEveryFrame true while the game loop is running
+     */
+    public void setFlushedEveryFrame(boolean flushedEveryFrame) {
+        boolean schedule;
+        synchronized (this) {
+            this.flushedEveryFrame = flushedEveryFrame;
+            // Updates left waiting for a frame that will not come get a runLater of their own
+            schedule = !flushedEveryFrame && depth > 0 && !flushScheduled;
+            if (schedule) {
+                flushScheduled = true;
+            }
+        }
+        if (schedule) {
+            Platform.runLater(flushTask);
+        }
+    }
+
+    /**
+     * Drops every waiting update and forgets all targets, so old nodes can be collected.
+     * Called when a new game starts.
+     */
+    public synchronized void clear() {
+        byTarget.clear();
+        targets.clear();
+        depth = 0;
+    }
+
+    /**
+     * Sets the clock used to measure how long updates wait, so it follows the clock of the game.
+     *
+     * @param clock the new clock
+     */
+    public void setClock(GameClock clock) {
+        this.clock = clock;
+    }
+
+    // Getter for the number of updates waiting
+    public synchronized int getQueueDepth() {
+        return depth;
+    }
+
+    // Getter for the highest number of updates that were waiting at once
+    public synchronized int getMaxQueueDepth() {
+        return maxDepth;
+    }
+
+    // Getter for the number of updates posted
+    public synchronized long getPostedCount() {
+        return posted;
+    }
+
+    // Getter for the number of updates dropped because a newer one replaced them
+    public synchronized long getCoalescedCount() {
+        return coalesced;
+    }
+
+    // Getter for the number of batches applied
+    public synchronized long getBatchCount() {
+        return batches;
+    }
+
+    // Getter for the histogram of how long applied updates waited
+    public LatencyHistogram getWaitTimes() {
+        return waitTimes;
+    }
+
+    /**
+     * Returns the dispatcher statistics as a single line.
+     *
+     * @return the statistics of this dispatcher
+     */
+    @Override
+    public synchronized String toString() {
+        return String.format("UI updates: posted=%d coalesced=%d batches=%d depth=%d maxDepth=%d wait %s",
+                posted, coalesced, batches, depth, maxDepth, waitTimes);
+    }
+}
@@ -0,0 +1,20 @@
+package logic.game;
+
+/**
+ * Interface for components that are driven by the GameLoop.
+ * The loop calls update once per fixed simulation step and render once per frame,
+ * so every phase of a tick runs in a known order on the JavaFX thread.
+ */
+public interface UpdateGameAble {
+
+    /**
+     * Advances the component by exactly one fixed simulation step.
+     */
+    void update();
+
+    /**
+     * Draws the current state of the component.
+     * Called once per frame after all pending simulation steps have run.
+     */
+    void render();
+}
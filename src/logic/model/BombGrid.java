@@ -0,0 +1,208 @@
+package logic.model;
+
+import java.util.Arrays;
+
+/**
+ * A uniform grid over the walking area that finds the bombs a croissant runs into
+ * without checking every bomb. Each bomb is filed under the cell of its position; cells are
+ * as large as the collision range, so a query only looks at the 3x3 cells around the croissant.
+ * Bombs do not move, so the grid is updated only when one spawns or is removed.
+ * Cells are linked lists kept in primitive int arrays, indexed by the bomb's slot.
+ */
+public class BombGrid {
+
+    private static final int NONE = -1;
+
+    private final int cellSize;
+    private final int columns;
+    private final int rows;
+    private final int[] cellHead; // First slot of each cell, NONE if empty
+
+    // Per slot: links within its cell, its cell, position and spawn order
+    private int[] next;
+    private int[] prev;
+    private int[] cellOf;
+    private int[] bombX;
+    private int[] bombY;
+    private int[] serial;
+    private BombModel[] models;
+    private int freeHead = NONE; // Free slots, linked through next
+    private int used; // Slots handed out at least once
+    private int size;
+    private int nextSerial;
+    private long[] hits = new long[4]; // Spawn order and slot of each bomb found by the last query
+    private int hitCount;
+
+    /**
+     * Creates an empty grid.
+     *
+     * @param areaSize The width and height of the area covered
+     * @param cellSize The width and height of a cell, at least the collision range
+     * @param capacity The number of bombs expected, the grid grows past it
+     */
+    public BombGrid(int areaSize, int cellSize, int capacity) {
+        this.cellSize = cellSize;
+        this.columns = (areaSize + cellSize - 1) / cellSize;
+        this.rows = columns;
+        this.cellHead = new int[columns * rows];
+        Arrays.fill(cellHead, NONE);
+        allocate(Math.max(capacity, 1));
+    }
+
+    /**
+     * Grows the slot arrays.
+     *
+     * @param capacity The new number of slots
+     */
+    private void allocate(int capacity) {
+        next = next == null ? new int[capacity] : Arrays.copyOf(next, capacity);
+        prev = prev == null ? new int[capacity] : Arrays.copyOf(prev, capacity);
+        cellOf = cellOf == null ? new int[capacity] : Arrays.copyOf(cellOf, capacity);
+        bombX = bombX == null ? new int[capacity] : Arrays.copyOf(bombX, capacity);
+        bombY = bombY == null ? new int[capacity] : Arrays.copyOf(bombY, capacity);
+        serial = serial == null ? new int[capacity] : Arrays.copyOf(serial, capacity);
+        models = models == null ? new BombModel[capacity] : Arrays.copyOf(models, capacity);
+    }
+
+    /**
+     * Adds a bomb at its current position.
+     *
+     * @param bomb The bomb, not already in the grid
+     */
+    public void add(BombModel bomb) {
+        int slot;
+        if (freeHead != NONE) {
+            slot = freeHead;
+            freeHead = next[slot];
+        } else {
+            if (used == models.length) {
+                allocate(used * 2);
+            }
+            slot = used++;
+        }
+        int cell = cell(bomb.getY()) * columns + cell(bomb.getX());
+        bombX[slot] = bomb.getX();
+        bombY[slot] = bomb.getY();
+        serial[slot] = nextSerial++;
+        models[slot] = bomb;
+        cellOf[slot] = cell;
+        prev[slot] = NONE;
+        next[slot] = cellHead[cell];
+        if (cellHead[cell] != NONE) {
+            prev[cellHead[cell]] = slot;
+        }
+        cellHead[cell] = slot;
+        bomb.setGridSlot(slot);
+        size++;
+    }
+
+    /**
+     * Removes a bomb from the grid. A bomb that is not in the grid is ignored.
+     *
+     * @param bomb The bomb to remove
+     */
+    public void remove(BombModel bomb) {
+        int slot = bomb.getGridSlot();
+        if (slot == NONE || slot >= used || models[slot] != bomb) {
+            return;
+        }
+        if (prev[slot] != NONE) {
+            next[prev[slot]] = next[slot];
+        } else {
+            cellHead[cellOf[slot]] = next[slot];
+        }
+        if (next[slot] != NONE) {
+            prev[next[slot]] = prev[slot];
+        }
+        models[slot] = null;
+        bomb.setGridSlot(NONE);
+        next[slot] = freeHead;
+        freeHead = slot;
+        size--;
+    }
+
+    /**
+     * Finds every bomb that collides with the croissant, newest first,
+     * the same order a scan of the bombs from the newest one finds them.
+     * The bombs are read with getHit.
+     *
+     * @param croissant The croissant
+     * @return the number of colliding bombs
+     */
+    public int findCollisions(CroissantModel croissant) {
+        int cx = croissant.getX();
+        int cy = croissant.getY();
+        int minCol = cell(cx - BombModel.WIDTH + 1);
+        int maxCol = cell(cx + BombModel.WIDTH - 1);
+        int minRow = cell(cy - BombModel.HEIGHT + 1);
+        int maxRow = cell(cy + BombModel.HEIGHT - 1);
+
+        hitCount = 0;
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int col = minCol; col <= maxCol; col++) {
+                for (int slot = cellHead[row * columns + col]; slot != NONE; slot = next[slot]) {
+                    if (Math.abs(cx - bombX[slot]) < BombModel.WIDTH && Math.abs(cy - bombY[slot]) < BombModel.HEIGHT) {
+                        if (hitCount == hits.length) {
+                            hits = Arrays.copyOf(hits, hits.length * 2);
+                        }
+                        hits[hitCount++] = ((long) serial[slot] << 32) | slot;
+                    }
+                }
+            }
+        }
+        if (hitCount > 1) {
+            Arrays.sort(hits, 0, hitCount); // Oldest first, read backwards by getHit
+        }
+        return hitCount;
+    }
+
+    /**
+     * Returns a bomb found by the last findCollisions.
+     *
+     * @param i The index of the hit, below the count returned
+     * @return the colliding bomb
+     */
+    public BombModel getHit(int i) {
+        return models[(int) hits[hitCount - 1 - i]];
+    }
+
+    /**
+     * Removes every bomb.
+     */
+    public void clear() {
+        for (int slot = 0; slot < used; slot++) {
+            if (models[slot] != null) {
+                models[slot].setGridSlot(NONE);
+                models[slot] = null;
+            }
+        }
+        Arrays.fill(cellHead, NONE);
+        freeHead = NONE;
+        used = 0;
+        nextSerial = 0;
+        size = 0;
+    }
+
+    /**
+     * Finds the column or row of a coordinate, clamped to the grid.
+     *
+     * @param v The x or y coordinate
+     * @return the column or row
+     */
+    private int cell(int v) {
+        if (v < 0) {
+            return 0;
+        }
+        return Math.min(v / cellSize, columns - 1);
+    }
+
+    // Getter for the number of bombs in the grid
+    public int size() {
+        return size;
+    }
+
+    // Getter for the number of cells
+    public int getCellCount() {
+        return columns * rows;
+    }
+}
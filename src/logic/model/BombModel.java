@@ -0,0 +1,76 @@
+package logic.model;
+
+import java.util.Random;
+
+/**
+ * The BombModel holds the position of one tomato bomb and checks collisions with a croissant.
+ */
+public class BombModel {
+    // Constants for the bomb's dimensions
+    public static final int WIDTH = 40;
+    public static final int HEIGHT = 40;
+    private static final int HEIGHT_OUT_OVEN_AREA = 60;
+    private static final int GRID_SIZE = 440;
+
+    // Position of the bomb on the grid
+    private int x, y;
+    private int gridSlot = -1; // Slot of the bomb in its BombGrid, -1 if it is not in one
+    private int index = -1; // Position of the bomb in its world's bomb list, -1 once removed
+
+    /**
+     * Creates a bomb at a random position.
+     *
+     * @param rand The random generator used for the spawn position
+     */
+    public BombModel(Random rand) {
+        spawnRandom(rand);
+    }
+
+    /**
+     * Places the bomb at a random position within the grid, below the oven area.
+     *
+     * @param rand The random generator to use
+     */
+    public void spawnRandom(Random rand) {
+        this.x = rand.nextInt(GRID_SIZE - WIDTH);
+        this.y = rand.nextInt(HEIGHT_OUT_OVEN_AREA + 1, GRID_SIZE - HEIGHT);
+    }
+
+    /**
+     * Checks if the bomb collides with a given croissant.
+     *
+     * @param croissant The croissant to check for collision with
+     * @return True if the bomb collides with the croissant, false otherwise
+     */
+    public boolean checkCollision(CroissantModel croissant) {
+        return Math.abs(croissant.getX() - x) < WIDTH && Math.abs(croissant.getY() - y) < HEIGHT;
+    }
+
+    public int getX() {
+        return x;
+    }
+
+    public int getY() {
+        return y;
+    }
+
+    // Getter for the position of the bomb in the world's bomb list, still set while bombRemoved is called
+    public int getIndex() {
+        return index;
+    }
+
+    // Setter for the position of the bomb in the world's bomb list
+    void setIndex(int index) {
+        this.index = index;
+    }
+
+    // Getter for the slot of the bomb in its BombGrid
+    int getGridSlot() {
+        return gridSlot;
+    }
+
+    // Setter for the slot of the bomb in its BombGrid
+    void setGridSlot(int gridSlot) {
+        this.gridSlot = gridSlot;
+    }
+}
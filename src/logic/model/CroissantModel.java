@@ -0,0 +1,146 @@
+package logic.model;
+
+import java.util.Random;
+
+/**
+ * The CroissantModel holds the game state of one croissant: its type, position and baking state.
+ * It has no JavaFX dependencies, so it can be simulated without a toolkit.
+ */
+public class CroissantModel {
+
+    public static final int WIDTH = 48, HEIGHT = 40;   // Width and height of the croissant
+    private static final int GRID_SIZE = 392;          // Grid size where croissants spawn
+    private static final int OVEN_AREA_Y_MAX = 40;     // Lowest y position that still counts as the oven area
+
+    private final CroissantType type;
+    private int x, y;                  // Position of the croissant on the grid
+    private int speed = 20;            // Movement speed of the croissant
+    private boolean inOvenArea = false; // Whether the croissant is in the oven
+    private State state = State.RAW;   // Current state of the croissant
+
+    /**
+     * Creates a croissant of the given type at a random position.
+     *
+     * @param type The type of the croissant
+     * @param rand The random generator used for the spawn position
+     */
+    public CroissantModel(CroissantType type, Random rand) {
+        this.type = type;
+        spawnRandom(rand);
+    }
+
+    /**
+     * Creates a croissant of a random type at a random position.
+     *
+     * @param rand The random generator to use
+     * @return A new random croissant
+     */
+    public static CroissantModel createRandom(Random rand) {
+        return new CroissantModel(CroissantType.random(rand), rand);
+    }
+
+    /**
+     * Places the croissant at a random position on the grid.
+     *
+     * @param rand The random generator to use
+     */
+    public void spawnRandom(Random rand) {
+        this.x = rand.nextInt(GRID_SIZE);
+        this.y = rand.nextInt(GRID_SIZE);
+    }
+
+    /**
+     * Moves the croissant by the given deltas in the x and y direction.
+     * Ensures that the croissant stays within the grid bounds.
+     *
+     * @param dx The change in x position
+     * @param dy The change in y position
+     */
+    public void move(int dx, int dy) {
+        x = Math.max(0, Math.min(GRID_SIZE, x + dx * speed));
+        y = Math.max(0, Math.min(GRID_SIZE + 8, y + dy * speed));  // Allow for slight overflow in y direction
+    }
+
+    /**
+     * Checks if the croissant is within the oven area.
+     *
+     * @return True if the croissant is in the oven area, false otherwise
+     */
+    public boolean checkInOvenArea() {
+        return this.y <= OVEN_AREA_Y_MAX;
+    }
+
+    /**
+     * Checks if the croissant is perfectly baked based on the actual baking time.
+     *
+     * @param actualTime The actual bake time of the croissant
+     * @return True if the croissant is perfectly baked, false otherwise
+     */
+    public boolean isPerfectlyBaked(int actualTime) {
+        return Math.abs(actualTime - getBakeTime()) <= 1;  // Allow a margin of 1 second
+    }
+
+    // Getter and setter methods for the croissant properties
+    public CroissantType getType() {
+        return type;
+    }
+
+    public String getName() {
+        return type.getDisplayName();
+    }
+
+    public int getBakeTime() {
+        return type.getBakeTime();
+    }
+
+    public int getBaseScore() {
+        return type.getBaseScore();
+    }
+
+    public int getX() {
+        return x;
+    }
+
+    public int getY() {
+        return y;
+    }
+
+    /**
+     * Sets the position of the croissant.
+     *
+     * @param x The x position
+     * @param y The y position
+     */
+    public void setPosition(int x, int y) {
+        this.x = x;
+        this.y = y;
+    }
+
+    public int getSpeed() {
+        return speed;
+    }
+
+    public void setSpeed(int speed) {
+        this.speed = speed;
+    }
+
+    public boolean isInOvenArea() {
+        return inOvenArea;
+    }
+
+    public void setInOvenArea(boolean inOvenArea) {
+        this.inOvenArea = inOvenArea;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public void setState(State state) {
+        this.state = state;
+    }
+
+    public static int getGridSize() {
+        return GRID_SIZE;
+    }
+}
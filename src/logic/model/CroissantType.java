@@ -0,0 +1,56 @@
+package logic.model;
+
+import java.util.Random;
+
+/**
+ * Enum representing the kinds of croissant in the game together with their baking rules.
+ */
+public enum CroissantType {
+    CLASSIC("Classic Croissant", 5, 100),   // Bake 5 seconds, 100 points
+    SALAD("Salad Croissant", 6, 120),       // Bake 6 seconds, 120 points
+    RAINBOW("Rainbow Croissant", 8, 250);   // Bake 8 seconds, 250 points
+
+    private static final CroissantType[] TYPES = values();
+
+    private final String displayName;
+    private final int bakeTime;
+    private final int baseScore;
+
+    CroissantType(String displayName, int bakeTime, int baseScore) {
+        this.displayName = displayName;
+        this.bakeTime = bakeTime;
+        this.baseScore = baseScore;
+    }
+
+    /**
+     * Gets the type for an ordinal without allocating a values() array.
+     *
+     * @param ordinal The ordinal of the type
+     * @return The croissant type
+     */
+    public static CroissantType of(int ordinal) {
+        return TYPES[ordinal];
+    }
+
+    /**
+     * Picks a croissant type at random.
+     *
+     * @param rand The random generator to use
+     * @return A random croissant type
+     */
+    public static CroissantType random(Random rand) {
+        return TYPES[rand.nextInt(TYPES.length)];
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public int getBakeTime() {
+        return bakeTime;
+    }
+
+    public int getBaseScore() {
+        return baseScore;
+    }
+}
@@ -0,0 +1,32 @@
+package logic.model;
+
+/**
+ * Bit flags for the keys of the game.
+ * Sets of keys are plain ints, combined into an InputSnapshot for each simulation step.
+ */
+public final class GameInput {
+
+    public static final int NONE = 0;
+    public static final int UP = 1;             // 'W' key
+    public static final int DOWN = 1 << 1;      // 'S' key
+    public static final int LEFT = 1 << 2;      // 'A' key
+    public static final int RIGHT = 1 << 3;     // 'D' key
+    public static final int BAKE = 1 << 4;      // 'E' key, put the croissant in the oven
+    public static final int TAKE_OUT = 1 << 5;  // 'Q' key, take the croissant out of the oven
+    public static final int SERVE = 1 << 6;     // 'R' key, serve the croissant
+    public static final int TRASH = 1 << 7;     // 'F' key, throw the croissant away
+
+    private GameInput() {
+    }
+
+    /**
+     * Checks whether a key is set in the given input.
+     *
+     * @param input The input bit flags
+     * @param key   The key flag to check
+     * @return true if the key is set, false otherwise
+     */
+    public static boolean isSet(int input, int key) {
+        return (input & key) != 0;
+    }
+}
@@ -0,0 +1,424 @@
+package logic.model;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import logic.game.ResetGameAble;
+import logic.game.VirtualClock;
+
+/**
+ * The GameWorld holds the complete rules of one round: the croissant, the oven, the bombs,
+ * the score and the round time. It is advanced one fixed step at a time by step(input)
+ * and has no JavaFX dependencies, so rounds can be simulated as fast as the CPU allows.
+ * Views follow the world through a GameWorldListener.
+ */
+public class GameWorld implements ResetGameAble {
+
+    // Length of one simulation step and of a full round
+    public static final int STEP_MILLIS = 30;
+    public static final int ROUND_MILLIS = 90_000;
+
+    // Score penalties
+    private static final int BURNED_PENALTY = 150;
+    private static final int UNDERCOOKED_PENALTY = 100;
+
+    // Width and height of the walking area
+    private static final int AREA_SIZE = 440;
+
+    // Interaction zones on the walking area
+    private static final int SERVE_AREA_X_MIN = 39;
+    private static final int SERVE_AREA_X_MAX = 340;
+    private static final int SERVE_AREA_Y_MIN = 350;
+    private static final int TRASH_AREA_X_MIN = 350;
+    private static final int TRASH_AREA_Y_MIN = 110;
+    private static final int TRASH_AREA_Y_MAX = 300;
+
+    // Bomb settings for each difficulty
+    private static final int EASY_BOMB_NUM = 2;
+    private static final int HARD_BOMB_NUM = 5;
+    private static final int EASY_BOMB_SPAWN_RATE = 4000;
+    private static final int HARD_BOMB_SPAWN_RATE = 2000;
+
+    private static final GameWorldListener NO_LISTENER = new GameWorldListener() {
+    };
+
+    private final Random rand;
+    private final ScoreLedger score;
+    private final OvenModel oven;
+    private final ArrayList<BombModel> bombs; // In no particular order, removed by swapping in the last one
+    private final ArrayDeque<BombModel> spawnOrder; // Oldest first, may still hold bombs already removed
+    private final BombGrid bombGrid; // The same bombs, filed by position
+    private int bombNum;
+    private int bombSpawnRate;
+    private final TimingWheel scheduler;
+    private final VirtualClock clock;
+    private CroissantModel croissant;
+    private long nextBombMillis;
+    private boolean roundOver;
+    private long generation; // Advanced by every change that shows on screen
+
+    // Scheduled events of this world
+    private final Runnable advanceOvenTask = this::advanceOven;
+    private final Runnable spawnBombTask = this::spawnBomb;
+    private final Runnable roundOverTask = this::endRound;
+    private TimingWheel.Timeout perfectTimeout;
+    private TimingWheel.Timeout burnTimeout;
+    private GameWorldListener listener = NO_LISTENER;
+
+    /**
+     * Creates a world for one round.
+     *
+     * @param isHard true for hard mode (more bombs, spawned faster)
+     * @param score  The score ledger updated by this world
+     * @param rand   The random generator used for every spawn, seed it for a reproducible round
+     */
+    public GameWorld(boolean isHard, ScoreLedger score, Random rand) {
+        this.rand = rand;
+        this.score = score;
+        this.oven = new OvenModel();
+        this.bombs = new ArrayList<>();
+        this.spawnOrder = new ArrayDeque<>();
+        this.bombGrid = new BombGrid(AREA_SIZE, BombModel.WIDTH, HARD_BOMB_NUM);
+        setHard(isHard);
+        this.scheduler = new TimingWheel();
+        this.clock = new VirtualClock();
+        reset();
+    }
+
+    /**
+     * Advances the world by one step.
+     * The phases run in a fixed order: movement and bomb collisions, oven interaction,
+     * trash and serving. Then the scheduled events due on this step fire in order:
+     * bake transitions, bomb spawns and the end of the round.
+     *
+     * @param input The input snapshot of this step
+     */
+    public void step(InputSnapshot input) {
+        if (isRoundOver()) {
+            return;
+        }
+        clock.advanceMillis(STEP_MILLIS);
+
+        move(input);
+        handleOven(input);
+        handleTrash(input);
+        handleServe(input);
+
+        scheduler.advance();
+    }
+
+    /**
+     * Moves the croissant and burns it when it runs into a bomb.
+     * A direction key moves the croissant if it was down at any time during the step.
+     *
+     * @param input The input snapshot of this step
+     */
+    private void move(InputSnapshot input) {
+        int dirLR = 0;
+        int dirUD = 0;
+
+        if (input.isActive(GameInput.UP)) {
+            dirUD = -1;
+        } else if (input.isActive(GameInput.DOWN)) {
+            dirUD = 1;
+        }
+        if (input.isActive(GameInput.LEFT)) {
+            dirLR = -1;
+        } else if (input.isActive(GameInput.RIGHT)) {
+            dirLR = 1;
+        }
+
+        // Check for collision with the bombs near the croissant, newest first
+        int hits = bombGrid.findCollisions(croissant);
+        for (int i = 0; i < hits; i++) {
+            BombModel bomb = bombGrid.getHit(i);
+            generation++;
+            boolean changed = croissant.getState() != State.BURN;
+            croissant.setState(State.BURN);
+            listener.bombHit(bomb);
+            removeBomb(bomb);
+            if (changed) {
+                listener.croissantStateChanged(croissant);
+            }
+        }
+
+        int x = croissant.getX();
+        int y = croissant.getY();
+        croissant.move(dirLR, dirUD);
+        if (croissant.getX() != x || croissant.getY() != y) {
+            generation++;
+        }
+    }
+
+    /**
+     * Puts the croissant in the oven or takes it out.
+     * Actions run once per key press, not on every step the key is held.
+     *
+     * @param input The input snapshot of this step
+     */
+    private void handleOven(InputSnapshot input) {
+        if (input.wasPressed(GameInput.TAKE_OUT) && croissant.isInOvenArea() && oven.isOccupied()) {
+            cancelBake();
+            generation++;
+            listener.croissantTakenOut(oven.removeCroissant());
+        }
+
+        if (input.wasPressed(GameInput.BAKE) && !oven.isOccupied() && croissant.checkInOvenArea()
+                && croissant.getState() == State.RAW) {
+            oven.addCroissant(croissant, getTimeMillis());
+            perfectTimeout = scheduler.schedule(ticksUntil(oven.getPerfectAtMillis()), advanceOvenTask);
+            burnTimeout = scheduler.schedule(ticksUntil(oven.getBurnAtMillis()), advanceOvenTask);
+            generation++;
+            listener.bakeStarted(croissant);
+        }
+    }
+
+    /**
+     * Throws the croissant away when it is in the trash area.
+     *
+     * @param input The input snapshot of this step
+     */
+    private void handleTrash(InputSnapshot input) {
+        if (input.wasPressed(GameInput.TRASH) && croissant.getX() >= TRASH_AREA_X_MIN
+                && croissant.getY() >= TRASH_AREA_Y_MIN && croissant.getY() <= TRASH_AREA_Y_MAX) {
+            listener.croissantTrashed(croissant);
+            spawnCroissant();
+        }
+    }
+
+    /**
+     * Serves the croissant when it is in the serving area and updates the score.
+     * A perfect croissant adds its base score; a burned or raw one is a penalty.
+     *
+     * @param input The input snapshot of this step
+     */
+    private void handleServe(InputSnapshot input) {
+        if (input.wasPressed(GameInput.SERVE) && croissant.getY() >= SERVE_AREA_Y_MIN
+                && croissant.getX() >= SERVE_AREA_X_MIN && croissant.getX() <= SERVE_AREA_X_MAX) {
+            int points;
+            ServeOutcome outcome;
+            if (croissant.getState() == State.PERFECT) {
+                points = croissant.getBaseScore();
+                outcome = ServeOutcome.PERFECT;
+            } else if (croissant.getState() == State.BURN) {
+                points = -BURNED_PENALTY;
+                outcome = ServeOutcome.BURNED;
+            } else {
+                points = -UNDERCOOKED_PENALTY;
+                outcome = ServeOutcome.UNDERCOOKED;
+            }
+            score.recordServe(croissant.getType(), outcome, points, getTimeMillis());
+            listener.croissantServed(croissant, points);
+            spawnCroissant();
+        }
+    }
+
+    /**
+     * Advances the bake state machine, fired by the scheduler at the perfect and burn times.
+     */
+    private void advanceOven() {
+        if (oven.advance(getTimeMillis())) {
+            generation++;
+            listener.croissantStateChanged(oven.getCroissantInOven());
+        }
+    }
+
+    /**
+     * Cancels the pending bake transitions when the croissant leaves the oven.
+     */
+    private void cancelBake() {
+        if (perfectTimeout != null) {
+            perfectTimeout.cancel();
+            perfectTimeout = null;
+        }
+        if (burnTimeout != null) {
+            burnTimeout.cancel();
+            burnTimeout = null;
+        }
+    }
+
+    /**
+     * Spawns a bomb, removing the oldest one once the limit is reached,
+     * and schedules the next spawn one spawn interval later.
+     */
+    private void spawnBomb() {
+        if (bombs.size() >= bombNum) {
+            BombModel oldest = spawnOrder.poll();
+            while (oldest.getIndex() < 0) {
+                oldest = spawnOrder.poll(); // Skip the bombs the croissant already hit
+            }
+            removeBomb(oldest);
+        }
+        BombModel bomb = new BombModel(rand);
+        bomb.setIndex(bombs.size());
+        bombs.add(bomb);
+        spawnOrder.add(bomb);
+        bombGrid.add(bomb);
+        generation++;
+        listener.bombSpawned(bomb);
+
+        nextBombMillis += bombSpawnRate;
+        scheduler.schedule(ticksUntil(nextBombMillis), spawnBombTask);
+    }
+
+    /**
+     * Removes a bomb in constant time: the last bomb of the list takes its place.
+     * The listener is told while the bomb still holds its old index, so a view keeping its
+     * bombs in the same order can swap the same way.
+     *
+     * @param bomb The bomb to remove
+     */
+    private void removeBomb(BombModel bomb) {
+        int index = bomb.getIndex();
+        BombModel last = bombs.remove(bombs.size() - 1);
+        if (last != bomb) {
+            bombs.set(index, last);
+            last.setIndex(index);
+        }
+        bombGrid.remove(bomb);
+        listener.bombRemoved(bomb);
+        bomb.setIndex(-1);
+    }
+
+    /**
+     * Ends the round, fired by the scheduler when the round time is up.
+     */
+    private void endRound() {
+        roundOver = true;
+        generation++;
+        listener.roundOver();
+    }
+
+    /**
+     * Replaces the current croissant with a new random one.
+     */
+    private void spawnCroissant() {
+        croissant = CroissantModel.createRandom(rand);
+        generation++;
+        listener.croissantSpawned(croissant);
+    }
+
+    /**
+     * Checks if the round time has run out.
+     *
+     * @return true if the round is over, false otherwise
+     */
+    public boolean isRoundOver() {
+        return roundOver;
+    }
+
+    /**
+     * Returns the time left in the round.
+     *
+     * @return the remaining time in milliseconds
+     */
+    public long getRemainingMillis() {
+        return Math.max(0, ROUND_MILLIS - getTimeMillis());
+    }
+
+    // Getter for the simulated time since the round started, in milliseconds
+    public long getTimeMillis() {
+        return clock.millis();
+    }
+
+    /**
+     * Returns the generation of the world, which advances whenever something that is drawn
+     * changes: the croissant moves, changes state or is replaced, the oven is used,
+     * or a bomb spawns or is removed. Renderers compare it to skip frames that would not differ.
+     *
+     * @return the current generation
+     */
+    public long getGeneration() {
+        return generation;
+    }
+
+    // Getter for the world's clock, which moves one step at a time; timers on it follow the simulation
+    public VirtualClock getClock() {
+        return clock;
+    }
+
+    public CroissantModel getCroissant() {
+        return croissant;
+    }
+
+    public OvenModel getOven() {
+        return oven;
+    }
+
+    public List<BombModel> getBombs() {
+        return bombs;
+    }
+
+    public ScoreLedger getScore() {
+        return score;
+    }
+
+    // Getter for the scheduler of timed events, ticking once per step
+    public TimingWheel getScheduler() {
+        return scheduler;
+    }
+
+    /**
+     * Converts a duration to a number of steps, rounding up.
+     *
+     * @param millis The duration in milliseconds
+     * @return the number of steps that cover the duration
+     */
+    public static long ticksFor(long millis) {
+        return (millis + STEP_MILLIS - 1) / STEP_MILLIS;
+    }
+
+    /**
+     * Returns the number of steps from now until the given game clock time, rounding up.
+     *
+     * @param atMillis The game clock time in milliseconds
+     * @return the number of steps until that time
+     */
+    private long ticksUntil(long atMillis) {
+        return ticksFor(atMillis - getTimeMillis());
+    }
+
+    /**
+     * Sets the difficulty of the world. It applies to bombs spawned from now on,
+     * so it is usually set right before a reset.
+     *
+     * @param isHard true for hard mode (more bombs, spawned faster)
+     */
+    public void setHard(boolean isHard) {
+        this.bombNum = isHard ? HARD_BOMB_NUM : EASY_BOMB_NUM;
+        this.bombSpawnRate = isHard ? HARD_BOMB_SPAWN_RATE : EASY_BOMB_SPAWN_RATE;
+    }
+
+    /**
+     * Sets the listener notified of events in this world.
+     *
+     * @param listener The listener, or null to remove it
+     */
+    public void setListener(GameWorldListener listener) {
+        this.listener = (listener != null) ? listener : NO_LISTENER;
+    }
+
+    /**
+     * Resets the world to the start of a round with a new croissant and no bombs.
+     * The first bomb spawns on the first step and the end of the round is scheduled.
+     */
+    @Override
+    public void reset() {
+        score.reset();
+        oven.reset();
+        bombs.clear();
+        spawnOrder.clear();
+        bombGrid.clear();
+        scheduler.clear();
+        clock.reset();
+        roundOver = false;
+        perfectTimeout = null;
+        burnTimeout = null;
+        nextBombMillis = STEP_MILLIS;
+        scheduler.schedule(1, spawnBombTask);
+        scheduler.schedule(ticksFor(ROUND_MILLIS), roundOverTask);
+        croissant = CroissantModel.createRandom(rand);
+        generation++;
+    }
+}
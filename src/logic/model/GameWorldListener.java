@@ -0,0 +1,88 @@
+package logic.model;
+
+/**
+ * Listener for things that happen inside a GameWorld step.
+ * Views implement the callbacks they need to update images and play sounds;
+ * every callback does nothing by default, so a headless simulation needs no listener at all.
+ */
+public interface GameWorldListener {
+
+    /**
+     * Called when a new croissant replaces the current one.
+     *
+     * @param croissant The new croissant
+     */
+    default void croissantSpawned(CroissantModel croissant) {
+    }
+
+    /**
+     * Called when a croissant changes state (raw, perfect or burned).
+     *
+     * @param croissant The croissant whose state changed
+     */
+    default void croissantStateChanged(CroissantModel croissant) {
+    }
+
+    /**
+     * Called when a croissant is put in the oven.
+     *
+     * @param croissant The croissant that started baking
+     */
+    default void bakeStarted(CroissantModel croissant) {
+    }
+
+    /**
+     * Called when a croissant is taken out of the oven.
+     *
+     * @param croissant The croissant that was taken out
+     */
+    default void croissantTakenOut(CroissantModel croissant) {
+    }
+
+    /**
+     * Called when a croissant is served to the customer.
+     *
+     * @param croissant The croissant that was served
+     * @param points    The points added to (or removed from) the score
+     */
+    default void croissantServed(CroissantModel croissant, int points) {
+    }
+
+    /**
+     * Called when a croissant is thrown in the trash.
+     *
+     * @param croissant The croissant that was thrown away
+     */
+    default void croissantTrashed(CroissantModel croissant) {
+    }
+
+    /**
+     * Called when a bomb appears on the walking area.
+     *
+     * @param bomb The new bomb
+     */
+    default void bombSpawned(BombModel bomb) {
+    }
+
+    /**
+     * Called when the croissant runs into a bomb.
+     *
+     * @param bomb The bomb that was hit
+     */
+    default void bombHit(BombModel bomb) {
+    }
+
+    /**
+     * Called when a bomb leaves the walking area, either because it was hit or because it expired.
+     *
+     * @param bomb The bomb that was removed
+     */
+    default void bombRemoved(BombModel bomb) {
+    }
+
+    /**
+     * Called when the round time is up.
+     */
+    default void roundOver() {
+    }
+}
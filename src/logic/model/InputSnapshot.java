@@ -0,0 +1,91 @@
+package logic.model;
+
+/**
+ * An immutable picture of the player's input for one simulation step.
+ * It holds GameInput flags for the keys held at the end of the step and for the keys
+ * that were pressed or released during it, so a tap that starts and ends between two
+ * steps is still seen as a press.
+ */
+public final class InputSnapshot {
+
+    public static final InputSnapshot EMPTY = new InputSnapshot(GameInput.NONE, GameInput.NONE, GameInput.NONE);
+
+    private final int held;
+    private final int pressed;
+    private final int released;
+
+    /**
+     * Creates a snapshot.
+     *
+     * @param held     GameInput flags of the keys held at the end of the step
+     * @param pressed  GameInput flags of the keys pressed during the step
+     * @param released GameInput flags of the keys released during the step
+     */
+    public InputSnapshot(int held, int pressed, int released) {
+        this.held = held;
+        this.pressed = pressed;
+        this.released = released;
+    }
+
+    /**
+     * Creates a snapshot of keys that are held down and were pressed on this step.
+     *
+     * @param held GameInput flags of the keys held
+     * @return the snapshot
+     */
+    public static InputSnapshot ofHeld(int held) {
+        return new InputSnapshot(held, held, GameInput.NONE);
+    }
+
+    /**
+     * Checks whether a key is down at the end of the step.
+     *
+     * @param key The GameInput flag of the key
+     * @return true if the key is held
+     */
+    public boolean isHeld(int key) {
+        return GameInput.isSet(held, key);
+    }
+
+    /**
+     * Checks whether a key went down during the step (a press edge).
+     *
+     * @param key The GameInput flag of the key
+     * @return true if the key was pressed during the step
+     */
+    public boolean wasPressed(int key) {
+        return GameInput.isSet(pressed, key);
+    }
+
+    /**
+     * Checks whether a key went up during the step (a release edge).
+     *
+     * @param key The GameInput flag of the key
+     * @return true if the key was released during the step
+     */
+    public boolean wasReleased(int key) {
+        return GameInput.isSet(released, key);
+    }
+
+    /**
+     * Checks whether a key was down at any time during the step, held or only tapped.
+     *
+     * @param key The GameInput flag of the key
+     * @return true if the key is held or was pressed during the step
+     */
+    public boolean isActive(int key) {
+        return GameInput.isSet(held | pressed, key);
+    }
+
+    public int getHeld() {
+        return held;
+    }
+
+    public int getPressed() {
+        return pressed;
+    }
+
+    public int getReleased() {
+        return released;
+    }
+}
@@ -0,0 +1,143 @@
+package logic.model;
+
+import logic.game.ResetGameAble;
+
+/**
+ * The OvenModel is the bake state machine of the oven.
+ * When a croissant is put in, the times at which it becomes perfect and burns are fixed
+ * from the game clock; advance(now) then moves it RAW -> PERFECT -> BURN on the first step
+ * that reaches each time. No threads or sleeps are involved, so the result only depends
+ * on the game clock.
+ */
+public class OvenModel implements ResetGameAble {
+
+    public static final long NOT_REACHED = -1;                 // Timestamp of a transition that has not happened
+    private static final long BURN_DELAY_MILLIS = 2000;        // Time after a perfect bake before the croissant burns
+    private static final int TAKE_OUT_X = 180;
+    private static final int TAKE_OUT_Y = 0;
+
+    private CroissantModel croissantInOven = null;
+
+    // Planned transition times, fixed when baking starts (game clock, milliseconds)
+    private long bakeStartMillis;
+    private long perfectAtMillis;
+    private long burnAtMillis;
+
+    // Game clock time of the step on which each transition actually happened
+    private long perfectedMillis = NOT_REACHED;
+    private long burnedMillis = NOT_REACHED;
+
+    /**
+     * Puts a croissant in the oven and starts baking it.
+     *
+     * @param croissant The croissant to be baked
+     * @param nowMillis The current game clock time in milliseconds
+     */
+    public void addCroissant(CroissantModel croissant, long nowMillis) {
+        if (!isOccupied()) {
+            croissantInOven = croissant;
+            bakeStartMillis = nowMillis;
+            perfectAtMillis = nowMillis + croissant.getBakeTime() * 1000L;
+            burnAtMillis = perfectAtMillis + BURN_DELAY_MILLIS;
+            perfectedMillis = NOT_REACHED;
+            burnedMillis = NOT_REACHED;
+            croissant.setInOvenArea(true);
+        }
+    }
+
+    /**
+     * Takes the croissant out of the oven and places it in front of the oven.
+     *
+     * @return The croissant that was taken out, or null if the oven was empty
+     */
+    public CroissantModel removeCroissant() {
+        CroissantModel croissant = croissantInOven;
+        if (croissant != null) {
+            croissant.setPosition(TAKE_OUT_X, TAKE_OUT_Y);
+            croissant.setInOvenArea(false);
+            croissantInOven = null;
+        }
+        return croissant;
+    }
+
+    /**
+     * Advances the bake state machine to the given game clock time.
+     * A raw croissant becomes perfect at its bake time and a perfect one burns two seconds later.
+     * A croissant that was already burned (by a bomb) stays burned.
+     *
+     * @param nowMillis The current game clock time in milliseconds
+     * @return true if the state of the croissant changed, false otherwise
+     */
+    public boolean advance(long nowMillis) {
+        if (croissantInOven == null) {
+            return false;
+        }
+
+        State state = croissantInOven.getState();
+        if (state == State.RAW && nowMillis >= perfectAtMillis) {
+            state = State.PERFECT;
+            perfectedMillis = nowMillis;
+        }
+        if (state == State.PERFECT && nowMillis >= burnAtMillis) {
+            state = State.BURN;
+            burnedMillis = nowMillis;
+        }
+
+        if (state == croissantInOven.getState()) {
+            return false;
+        }
+        croissantInOven.setState(state);
+        return true;
+    }
+
+    /**
+     * Checks if the oven is currently occupied by a croissant.
+     *
+     * @return true if the oven is occupied, false otherwise
+     */
+    public boolean isOccupied() {
+        return croissantInOven != null;
+    }
+
+    public CroissantModel getCroissantInOven() {
+        return croissantInOven;
+    }
+
+    // Getter for the game clock time the current bake started
+    public long getBakeStartMillis() {
+        return bakeStartMillis;
+    }
+
+    // Getter for the game clock time the current croissant is planned to become perfect
+    public long getPerfectAtMillis() {
+        return perfectAtMillis;
+    }
+
+    // Getter for the game clock time the current croissant is planned to burn
+    public long getBurnAtMillis() {
+        return burnAtMillis;
+    }
+
+    // Getter for the step time the croissant became perfect, or NOT_REACHED
+    public long getPerfectedMillis() {
+        return perfectedMillis;
+    }
+
+    // Getter for the step time the croissant burned in the oven, or NOT_REACHED
+    public long getBurnedMillis() {
+        return burnedMillis;
+    }
+
+    /**
+     * Empties the oven.
+     */
+    @Override
+    public void reset() {
+        croissantInOven = null;
+        bakeStartMillis = 0;
+        perfectAtMillis = 0;
+        burnAtMillis = 0;
+        perfectedMillis = NOT_REACHED;
+        burnedMillis = NOT_REACHED;
+    }
+}
@@ -1,15 +1,18 @@
-package logic.components;
+package logic.model;
+
+import java.util.concurrent.atomic.AtomicInteger;
 
 import logic.game.ResetGameAble;
 
 /**
  * Class representing a score in the game.
  * Implements the ResetGameAble interface to allow resetting the score.
+ * The value is held in an atomic integer, so it can be read from any thread without locking.
  */
 public class Score implements ResetGameAble {
 
     // Instance variable to hold the score value
-    private int score;
+    private final AtomicInteger score = new AtomicInteger();
 
     /**
      * Default constructor that initializes the score to 0.
@@ -31,7 +34,7 @@ public class Score implements ResetGameAble {
      * @return The current score value.
      */
     public int getScore() {
-        return score;
+        return score.get();
     }
 
     /**
@@ -39,7 +42,22 @@ public class Score implements ResetGameAble {
      * @param score The score value to set.
      */
     public void setScore(int score) {
-        this.score = Math.max(score, 0);  // Ensures that the score is never negative
+        this.score.set(Math.max(score, 0));  // Ensures that the score is never negative
+    }
+
+    /**
+     * Adds points to the score atomically. The score never goes below 0.
+     * @param points The points to add, negative for a penalty.
+     * @return The new score value.
+     */
+    public int add(int points) {
+        int current;
+        int next;
+        do {
+            current = score.get();
+            next = Math.max(current + points, 0);
+        } while (!score.compareAndSet(current, next));
+        return next;
     }
 
     /**
@@ -0,0 +1,176 @@
+package logic.model;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A score that also keeps a ledger of every serve.
+ * All state is held in atomic primitives, so the game tick can record serves while the UI
+ * reads the total, the per-type breakdown or the event log without locks or allocation.
+ * The event log is a fixed-size ring: once it is full, the oldest events are overwritten.
+ * Each event is packed into one int holding its points, croissant type and outcome,
+ * next to a long timestamp in round milliseconds.
+ */
+public class ScoreLedger extends Score {
+
+    public static final int DEFAULT_LOG_CAPACITY = 256;
+
+    private static final int TYPE_COUNT = CroissantType.values().length;
+    private static final int OUTCOME_COUNT = ServeOutcome.values().length;
+
+    private final int mask; // Log capacity - 1, the capacity is a power of two
+    private final AtomicLong written = new AtomicLong(); // Number of events ever recorded
+    private final AtomicLongArray published; // Sequence + 1 of the event in each slot, negative while it is written
+    private final AtomicLongArray times; // Time of the event in each slot
+    private final AtomicIntegerArray entries; // Packed event in each slot
+    private final AtomicIntegerArray serveCounts = new AtomicIntegerArray(TYPE_COUNT * OUTCOME_COUNT);
+    private final AtomicIntegerArray typePoints = new AtomicIntegerArray(TYPE_COUNT); // Net points per type
+
+    /**
+     * Creates a ledger with the default log capacity.
+     */
+    public ScoreLedger() {
+        this(DEFAULT_LOG_CAPACITY);
+    }
+
+    /**
+     * Creates a ledger.
+     *
+     * @param logCapacity The number of events kept, rounded up to a power of two
+     */
+    public ScoreLedger(int logCapacity) {
+        int capacity = Integer.highestOneBit(Math.max(1, logCapacity - 1)) << 1;
+        this.mask = capacity - 1;
+        this.published = new AtomicLongArray(capacity);
+        this.times = new AtomicLongArray(capacity);
+        this.entries = new AtomicIntegerArray(capacity);
+    }
+
+    /**
+     * Records a serve: adds its points to the score and the totals and appends it to the log.
+     *
+     * @param type       The type of the served croissant
+     * @param outcome    How the croissant was scored
+     * @param points     The points given, negative for a penalty
+     * @param timeMillis The round time of the serve
+     * @return the new score
+     */
+    public int recordServe(CroissantType type, ServeOutcome outcome, int points, long timeMillis) {
+        serveCounts.incrementAndGet(type.ordinal() * OUTCOME_COUNT + outcome.ordinal());
+        typePoints.addAndGet(type.ordinal(), points);
+
+        long sequence = written.getAndIncrement();
+        int slot = (int) (sequence & mask);
+        published.set(slot, -(sequence + 1)); // Readers skip the slot while it is written
+        times.set(slot, timeMillis);
+        entries.set(slot, pack(type, outcome, points));
+        published.set(slot, sequence + 1);
+
+        return add(points);
+    }
+
+    /**
+     * Copies logged events, oldest first, into caller-owned arrays.
+     * Events that were overwritten or are still being written are skipped.
+     *
+     * @param fromSequence The sequence number of the first event wanted
+     * @param timesOut     Receives the event times
+     * @param entriesOut   Receives the packed events, read with entryType, entryOutcome and entryPoints
+     * @return the number of events copied
+     */
+    public int copyEvents(long fromSequence, long[] timesOut, int[] entriesOut) {
+        long end = written.get();
+        long start = Math.max(fromSequence, Math.max(0, end - (mask + 1)));
+        int copied = 0;
+        for (long sequence = start; sequence < end && copied < timesOut.length && copied < entriesOut.length; sequence++) {
+            int slot = (int) (sequence & mask);
+            if (published.get(slot) != sequence + 1) {
+                continue;
+            }
+            long time = times.get(slot);
+            int entry = entries.get(slot);
+            if (published.get(slot) != sequence + 1) {
+                continue; // Overwritten while it was copied
+            }
+            timesOut[copied] = time;
+            entriesOut[copied] = entry;
+            copied++;
+        }
+        return copied;
+    }
+
+    /**
+     * Packs an event into one int: the points in the high bits, then the type and the outcome.
+     *
+     * @param type    The croissant type
+     * @param outcome The outcome
+     * @param points  The points given
+     * @return the packed event
+     */
+    private static int pack(CroissantType type, ServeOutcome outcome, int points) {
+        return points << 8 | type.ordinal() << 4 | outcome.ordinal();
+    }
+
+    // Getter for the croissant type of a packed event
+    public static CroissantType entryType(int entry) {
+        return CroissantType.of(entry >> 4 & 0xF);
+    }
+
+    // Getter for the outcome of a packed event
+    public static ServeOutcome entryOutcome(int entry) {
+        return ServeOutcome.of(entry & 0xF);
+    }
+
+    // Getter for the points of a packed event
+    public static int entryPoints(int entry) {
+        return entry >> 8;
+    }
+
+    // Getter for the number of serves of a type with an outcome
+    public int getServeCount(CroissantType type, ServeOutcome outcome) {
+        return serveCounts.get(type.ordinal() * OUTCOME_COUNT + outcome.ordinal());
+    }
+
+    // Getter for the number of serves with an outcome, over all types
+    public int getServeCount(ServeOutcome outcome) {
+        int total = 0;
+        for (int type = 0; type < TYPE_COUNT; type++) {
+            total += serveCounts.get(type * OUTCOME_COUNT + outcome.ordinal());
+        }
+        return total;
+    }
+
+    // Getter for the net points earned by a type
+    public int getPoints(CroissantType type) {
+        return typePoints.get(type.ordinal());
+    }
+
+    // Getter for the number of events ever recorded, also the sequence number of the next one
+    public long getEventCount() {
+        return written.get();
+    }
+
+    // Getter for the number of events the log keeps
+    public int getLogCapacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Clears the score, the totals and the log. Call it between rounds, not while serves are recorded.
+     */
+    @Override
+    public void reset() {
+        super.reset();
+        for (int i = 0; i < serveCounts.length(); i++) {
+            serveCounts.set(i, 0);
+        }
+        for (int i = 0; i < typePoints.length(); i++) {
+            typePoints.set(i, 0);
+        }
+        for (int i = 0; i < published.length(); i++) {
+            published.set(i, 0);
+        }
+        written.set(0);
+    }
+}
@@ -0,0 +1,22 @@
+package logic.model;
+
+/**
+ * Enum representing how a served croissant was scored.
+ */
+public enum ServeOutcome {
+    PERFECT,      // Baked just right, adds the base score
+    BURNED,       // Left in the oven too long, a penalty
+    UNDERCOOKED;  // Taken out too early, a penalty
+
+    private static final ServeOutcome[] OUTCOMES = values();
+
+    /**
+     * Gets the outcome for an ordinal without allocating a values() array.
+     *
+     * @param ordinal The ordinal of the outcome
+     * @return The outcome
+     */
+    public static ServeOutcome of(int ordinal) {
+        return OUTCOMES[ordinal];
+    }
+}
@@ -1,4 +1,4 @@
-package logic.components;
+package logic.model;
 
 /**
  * Enum representing the possible states of an item (e.g., croissant) in the oven.
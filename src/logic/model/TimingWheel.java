@@ -0,0 +1,223 @@
+package logic.model;
+
+/**
+ * A hierarchical timing wheel that schedules game events in simulation ticks.
+ * It has four levels of 64 slots; level 0 holds events due within 64 ticks and each higher
+ * level covers 64 times the range of the one below. Scheduling and cancelling are O(1)
+ * (a doubly linked list per slot); far events are moved down a level when the wheel reaches
+ * their slot. Events fire from advance(), inside the game tick, in deadline order, so no
+ * threads are needed no matter how many timers are pending.
+ */
+public class TimingWheel {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;            // Slots per level
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+    private static final long MAX_DELAY = (1L << (SLOT_BITS * LEVELS)) - 1; // Longest delay the wheel can place
+
+    /**
+     * A scheduled event. It can be cancelled until it fires.
+     */
+    public static final class Timeout {
+        private final Runnable task;
+        private final long deadline;
+        private TimingWheel wheel;
+        private int bucket = -1;
+        private Timeout prev, next;
+
+        private Timeout(TimingWheel wheel, Runnable task, long deadline) {
+            this.wheel = wheel;
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        /**
+         * Cancels the event if it has not fired yet.
+         *
+         * @return true if the event was pending and is now cancelled, false otherwise
+         */
+        public boolean cancel() {
+            if (wheel == null) {
+                return false;
+            }
+            wheel.unlink(this);
+            wheel.pending--;
+            wheel = null;
+            return true;
+        }
+
+        /**
+         * Checks whether the event is still waiting to fire.
+         *
+         * @return true if the event is pending, false if it fired or was cancelled
+         */
+        public boolean isPending() {
+            return wheel != null;
+        }
+
+        // Getter for the tick this event fires on
+        public long getDeadline() {
+            return deadline;
+        }
+    }
+
+    // Head and tail of the list in every slot, indexed by level * SLOTS + slot
+    private final Timeout[] heads = new Timeout[LEVELS * SLOTS];
+    private final Timeout[] tails = new Timeout[LEVELS * SLOTS];
+
+    private long tick;
+    private int pending;
+    private int firedLastTick;
+    private long firedTotal;
+
+    /**
+     * Schedules a task to run after the given number of ticks.
+     * A delay below one tick runs the task on the next tick.
+     *
+     * @param delayTicks The number of ticks to wait
+     * @param task       The task to run
+     * @return The scheduled event, which can be cancelled
+     */
+    public Timeout schedule(long delayTicks, Runnable task) {
+        Timeout timeout = new Timeout(this, task, tick + Math.max(1, delayTicks));
+        place(timeout);
+        pending++;
+        return timeout;
+    }
+
+    /**
+     * Advances the wheel by one tick and runs every event due on it.
+     */
+    public void advance() {
+        tick++;
+
+        // Move events down from higher levels whose slot the wheel has just reached
+        for (int level = LEVELS - 1; level > 0; level--) {
+            int shift = SLOT_BITS * level;
+            if ((tick & ((1L << shift) - 1)) == 0) {
+                cascade(level * SLOTS + (int) ((tick >>> shift) & SLOT_MASK));
+            }
+        }
+
+        // Run the events of the current slot, one at a time so a task may cancel the others
+        int bucket = (int) (tick & SLOT_MASK);
+        firedLastTick = 0;
+        while (heads[bucket] != null) {
+            Timeout timeout = heads[bucket];
+            unlink(timeout);
+            timeout.wheel = null;
+            pending--;
+            firedLastTick++;
+            timeout.task.run();
+        }
+        firedTotal += firedLastTick;
+    }
+
+    /**
+     * Re-places every event of a slot according to its remaining delay.
+     *
+     * @param bucket The slot to empty
+     */
+    private void cascade(int bucket) {
+        Timeout timeout = heads[bucket];
+        heads[bucket] = null;
+        tails[bucket] = null;
+        while (timeout != null) {
+            Timeout next = timeout.next;
+            timeout.prev = null;
+            timeout.next = null;
+            place(timeout);
+            timeout = next;
+        }
+    }
+
+    /**
+     * Appends an event to the slot that the wheel reaches at or before its deadline.
+     *
+     * @param timeout The event to place
+     */
+    private void place(Timeout timeout) {
+        long delay = Math.min(timeout.deadline - tick, MAX_DELAY);
+        long target = tick + delay;
+        int level = 0;
+        while (level < LEVELS - 1 && delay >= (1L << (SLOT_BITS * (level + 1)))) {
+            level++;
+        }
+        int bucket = level * SLOTS + (int) ((target >>> (SLOT_BITS * level)) & SLOT_MASK);
+
+        timeout.bucket = bucket;
+        timeout.prev = tails[bucket];
+        if (tails[bucket] == null) {
+            heads[bucket] = timeout;
+        } else {
+            tails[bucket].next = timeout;
+        }
+        tails[bucket] = timeout;
+    }
+
+    /**
+     * Removes an event from its slot.
+     *
+     * @param timeout The event to remove
+     */
+    private void unlink(Timeout timeout) {
+        int bucket = timeout.bucket;
+        if (timeout.prev == null) {
+            heads[bucket] = timeout.next;
+        } else {
+            timeout.prev.next = timeout.next;
+        }
+        if (timeout.next == null) {
+            tails[bucket] = timeout.prev;
+        } else {
+            timeout.next.prev = timeout.prev;
+        }
+        timeout.prev = null;
+        timeout.next = null;
+        timeout.bucket = -1;
+    }
+
+    /**
+     * Cancels every pending event and sets the wheel back to tick 0.
+     */
+    public void clear() {
+        for (int i = 0; i < heads.length; i++) {
+            Timeout timeout = heads[i];
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                timeout.prev = null;
+                timeout.next = null;
+                timeout.bucket = -1;
+                timeout.wheel = null;
+                timeout = next;
+            }
+            heads[i] = null;
+            tails[i] = null;
+        }
+        tick = 0;
+        pending = 0;
+        firedLastTick = 0;
+        firedTotal = 0;
+    }
+
+    // Getter for the current tick
+    public long getTick() {
+        return tick;
+    }
+
+    // Getter for the number of events waiting to fire
+    public int getPendingCount() {
+        return pending;
+    }
+
+    // Getter for the number of events fired on the last tick
+    public int getFiredLastTick() {
+        return firedLastTick;
+    }
+
+    // Getter for the number of events fired since the wheel was cleared
+    public long getFiredTotal() {
+        return firedTotal;
+    }
+}